@@ -0,0 +1,125 @@
+package io.quarkiverse.web.bundler.deployment;
+
+import static io.quarkiverse.tools.stringpaths.StringPaths.toUnixPath;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.deployment.util.FileUtil;
+
+/**
+ * Build-level cache of the bundling output, keyed by a digest of all the bundling inputs.
+ * <p>
+ * The cache lives next to the bundling work dir ({@code target/web-bundler/.cache/<profile>}) and only keeps the output
+ * of the last bundling: the dist dir, the generated entry points and the location of the bundle dir.
+ */
+final class BundleCache {
+
+    private static final Logger LOGGER = Logger.getLogger(BundleCache.class);
+
+    private static final String CACHE_DIR_NAME = ".cache";
+    private static final String DIST_DIR = "dist";
+    private static final String ENTRY_POINTS_DIR = "entry-points";
+    private static final String BUNDLE_DIR_FILE = "bundle-dir";
+
+    private BundleCache() {
+    }
+
+    /**
+     * Computes the digest of the bundling inputs: a description of the options and the content of the prepared files.
+     */
+    static String digest(List<String> inputs, Path workDir, List<Path> files) throws IOException {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String input : inputs) {
+                digest.update(input.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            final byte[] buffer = new byte[8192];
+            for (Path file : files.stream().sorted().distinct().toList()) {
+                digest.update(toUnixPath(workDir.relativize(file).toString()).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+                try (InputStream in = Files.newInputStream(file)) {
+                    int read;
+                    while ((read = in.read(buffer)) != -1) {
+                        digest.update(buffer, 0, read);
+                    }
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Restores the cached output for this digest into the work dir.
+     *
+     * @return the bundle dir or {@code null} if there is nothing cached for this digest
+     */
+    static Path restore(Path workDir, Path distDir, String digest) throws IOException {
+        final Path entry = cacheDir(workDir).resolve(digest);
+        if (!Files.isRegularFile(entry.resolve(BUNDLE_DIR_FILE))) {
+            return null;
+        }
+        final Path bundleDir = workDir.resolve(Files.readString(entry.resolve(BUNDLE_DIR_FILE)));
+        FileUtil.deleteDirectory(distDir);
+        copyDirectory(entry.resolve(DIST_DIR), distDir);
+        copyDirectory(entry.resolve(ENTRY_POINTS_DIR), workDir);
+        LOGGER.debugf("Web Bundler output restored from cache %s", entry);
+        return bundleDir;
+    }
+
+    /**
+     * Stores the bundling output for this digest, replacing any previous entry.
+     * Failures are logged and ignored, the cache is only an optimization.
+     */
+    static void store(Path workDir, Path distDir, Path bundleDir, String digest) {
+        final Path cacheDir = cacheDir(workDir);
+        final Path tmp = cacheDir.resolve(digest + ".tmp");
+        try {
+            FileUtil.deleteDirectory(cacheDir);
+            copyDirectory(distDir, tmp.resolve(DIST_DIR));
+            Files.createDirectories(tmp.resolve(ENTRY_POINTS_DIR));
+            try (Stream<Path> generatedEntryPoints = Files.find(workDir, 1,
+                    (p, a) -> a.isRegularFile() && p.getFileName().toString().endsWith(".js"))) {
+                for (Path p : generatedEntryPoints.toList()) {
+                    Files.copy(p, tmp.resolve(ENTRY_POINTS_DIR).resolve(p.getFileName().toString()));
+                }
+            }
+            Files.writeString(tmp.resolve(BUNDLE_DIR_FILE), toUnixPath(workDir.relativize(bundleDir).toString()));
+            Files.move(tmp, cacheDir.resolve(digest), StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Failed to store Web Bundler output in cache %s", cacheDir);
+        }
+    }
+
+    private static Path cacheDir(Path workDir) {
+        return workDir.getParent().resolve(CACHE_DIR_NAME).resolve(workDir.getFileName().toString());
+    }
+
+    private static void copyDirectory(Path source, Path target) throws IOException {
+        Files.createDirectories(target);
+        try (Stream<Path> stream = Files.walk(source)) {
+            for (Path p : stream.toList()) {
+                final Path dest = target.resolve(toUnixPath(source.relativize(p).toString()));
+                if (Files.isDirectory(p)) {
+                    Files.createDirectories(dest);
+                } else {
+                    Files.copy(p, dest, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+        }
+    }
+}
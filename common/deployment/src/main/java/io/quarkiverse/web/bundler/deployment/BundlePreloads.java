@@ -0,0 +1,89 @@
+package io.quarkiverse.web.bundler.deployment;
+
+import static io.quarkiverse.tools.stringpaths.StringPaths.join;
+import static io.quarkiverse.tools.stringpaths.StringPaths.toUnixPath;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Computes the static module graph of the bundled entry points from the esbuild ESM output,
+ * the chunks statically imported (transitively) by an entry point can be preloaded by the browser.
+ */
+final class BundlePreloads {
+
+    // esbuild ESM output: import{a as b}from"./chunk-ABC.js"; import"./chunk-ABC.js"; export*from"./chunk-ABC.js";
+    private static final Pattern STATIC_IMPORT = Pattern.compile(
+            "(?:^|[;}\\n])\\s*(?:import|export)\\s*(?:[\\w$*{},\\s]*?\\s*from\\s*)?[\"'](\\.{1,2}/[^\"']+\\.js)[\"']");
+
+    private BundlePreloads() {
+    }
+
+    /**
+     * @param bundleDir the bundle dir
+     * @param entryPoints the entry point scripts, relative path in the bundle dir by entry point key
+     * @param publicBundlePath the public bundle path
+     * @return the public paths of the chunks statically imported by each entry point (in import order)
+     */
+    static Map<String, List<String>> compute(Path bundleDir, Map<String, String> entryPoints, String publicBundlePath)
+            throws IOException {
+        final Map<Path, List<Path>> imports = new HashMap<>();
+        final Map<String, List<String>> preloads = new HashMap<>();
+        for (Map.Entry<String, String> entryPoint : entryPoints.entrySet()) {
+            final Path entryPointFile = bundleDir.resolve(entryPoint.getValue()).normalize();
+            final Set<Path> visited = new LinkedHashSet<>();
+            final Deque<Path> queue = new ArrayDeque<>();
+            queue.add(entryPointFile);
+            while (!queue.isEmpty()) {
+                final Path file = queue.poll();
+                List<Path> fileImports = imports.get(file);
+                if (fileImports == null) {
+                    fileImports = staticImports(bundleDir, file);
+                    imports.put(file, fileImports);
+                }
+                for (Path i : fileImports) {
+                    if (!i.equals(entryPointFile) && visited.add(i)) {
+                        queue.add(i);
+                    }
+                }
+            }
+            if (!visited.isEmpty()) {
+                final List<String> publicPaths = new ArrayList<>(visited.size());
+                for (Path p : visited) {
+                    publicPaths.add(join(publicBundlePath, toUnixPath(bundleDir.relativize(p).toString())));
+                }
+                preloads.put(entryPoint.getKey(), List.copyOf(publicPaths));
+            }
+        }
+        return preloads;
+    }
+
+    private static List<Path> staticImports(Path bundleDir, Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return List.of();
+        }
+        final String content = Files.readString(file, StandardCharsets.UTF_8);
+        final List<Path> result = new ArrayList<>();
+        final Matcher matcher = STATIC_IMPORT.matcher(content);
+        while (matcher.find()) {
+            final Path imported = file.resolveSibling(matcher.group(1)).normalize();
+            // Only the files from the bundle can be preloaded
+            if (imported.startsWith(bundleDir) && Files.isRegularFile(imported)) {
+                result.add(imported);
+            }
+        }
+        return result;
+    }
+}
@@ -15,7 +15,7 @@ import java.nio.file.FileSystemException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardCopyOption;
-import java.nio.file.StandardOpenOption;
+import java.security.CodeSource;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -24,11 +24,14 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.jboss.logging.Logger;
 
+import io.mvnpm.esbuild.Bundler;
 import io.mvnpm.esbuild.model.AutoEntryPoint;
 import io.mvnpm.esbuild.model.BundleOptions;
 import io.mvnpm.esbuild.model.BundleOptionsBuilder;
@@ -120,76 +123,42 @@ public class BundlePrepareProcessor {
             LOGGER.debugf("Preparing Web Bundle in %s", targetDir);
             final boolean browserLiveReload = launchMode.getLaunchMode().equals(LaunchMode.DEVELOPMENT)
                     && config.browserLiveReload();
+            final PreparedAssetsManifest manifest = !launchMode.getLaunchMode().isDev() && config.bundling().incremental()
+                    ? PreparedAssetsManifest.load(targetDir.webBundler())
+                    : PreparedAssetsManifest.disabled();
+            final List<Path> preparedAssets = new ArrayList<>();
             if (bundleConfig.isPresent()) {
                 for (ProjectFile webAsset : bundleConfig.get().getWebAssets()) {
                     final Path targetConfig = targetDir.webBundler().resolve(webAsset.indexPath());
-                    createAsset(launchMode, browserLiveReload, watchedLinks, watchedFiles, webAsset, targetConfig);
+                    createAsset(launchMode, browserLiveReload, watchedLinks, watchedFiles, manifest, webAsset,
+                            targetConfig);
+                    preparedAssets.add(targetConfig);
                 }
             }
 
             final Map<String, EsBuildConfig.Loader> loaders = computeLoaders(config);
-            final EsBuildConfigBuilder esBuildConfigBuilder = EsBuildConfig.builder()
-                    .loader(loaders)
-                    .outDir(StringPaths.join(DIST, config.bundlePath()))
-                    .publicPath(config.publicBundlePath())
-                    .splitting(config.bundling().splitting())
-                    .sourceMap(config.bundling().sourceMapEnabled())
-                    .define(LAUNCH_MODE_ENV, "'" + launchMode.getLaunchMode().name() + "'");
-            boolean fixedNames = false;
-            if (browserLiveReload) {
-                esBuildConfigBuilder
-                        .preserveSymlinks()
-                        .minify(false)
-                        .define("process.env.LIVE_RELOAD_PATH",
-                                "'" + StringPaths.join(httpRootPath.getRootPath(), WEB_BUNDLER_LIVE_RELOAD_PATH)
-                                        + "'")
-                        .fixedEntryNames();
-                fixedNames = true;
-            }
-            if (!config.bundling().envs().isEmpty()) {
-                esBuildConfigBuilder.define(config.bundling().safeEnvs());
-            }
-            if (config.bundling().external().isPresent()) {
-                for (String e : config.bundling().external().get()) {
-                    esBuildConfigBuilder.addExternal(e);
-                }
-            } else {
-                esBuildConfigBuilder.addExternal(join(config.httpRootPath(), "static/*"));
-            }
-            final BundleOptionsBuilder optionsBuilder = BundleOptions.builder()
-                    .debugBuild(config.debug())
-                    .withWorkDir(targetDir.webBundler())
-                    .withDependencies(installedWebDependencies.toEsBuildWebDependencies())
-                    .withEsConfig(esBuildConfigBuilder.build())
-                    .withNodeModulesDir(installedWebDependencies.nodeModulesDir());
-
-            final Set<String> installedPlugins = new HashSet<>();
-
-            for (WebBundlerEsbuildPluginBuiltItem plugin : plugins) {
-                if (installedPlugins.add(plugin.get().name())) {
-                    optionsBuilder.addPlugin(plugin.get());
-                } else {
-                    throw new IllegalStateException("EsBuild plugins should only be installed once:" + plugins);
-                }
-            }
-
-            if (config.sass()) {
-                optionsBuilder.addPlugin(new EsBuildPluginSass());
-                installedPlugins.add("sass");
-            }
+            // Fixed names are used with browser live-reload
+            final boolean fixedNames = browserLiveReload;
+            final BundleOptionsBuilder optionsBuilder = createBundleOptionsBuilder(config, installedWebDependencies,
+                    plugins, targetDir.webBundler(),
+                    createEsBuildConfig(config, launchMode, httpRootPath, loaders, browserLiveReload,
+                            StringPaths.join(DIST, config.bundlePath())));
 
             final Set<String> directWebDependenciesIds = installedWebDependencies.list().stream().filter(Dependency::direct)
                     .map(Dependency::id).collect(Collectors.toSet());
             int addedEntryPoints = 0;
             final AutoEntryPoint.AutoDepsMode autoDepsMode = AutoEntryPoint.AutoDepsMode
                     .valueOf(config.dependencies().autoImport().mode().toString());
+            final Map<String, List<String>> bundledEntryPoints = new TreeMap<>();
             for (EntryPointBuildItem entryPoint : entryPoints) {
                 final List<String> scripts = new ArrayList<>();
 
                 for (BundleWebAsset webAsset : entryPoint.assets()) {
                     String destination = webAsset.indexPath();
                     final Path scriptPath = targetDir.webBundler().resolve(destination);
-                    createAsset(launchMode, browserLiveReload, watchedLinks, watchedFiles, webAsset, scriptPath);
+                    createAsset(launchMode, browserLiveReload, watchedLinks, watchedFiles, manifest, webAsset,
+                            scriptPath);
+                    preparedAssets.add(scriptPath);
                     // Manual assets are supposed to be imported by the entry point
                     if (!webAsset.bundleType().equals(MANUAL)) {
                         scripts.add(destination);
@@ -215,10 +184,13 @@ public class BundlePrepareProcessor {
                     optionsBuilder.addAutoEntryPoint(targetDir.webBundler(), entryPoint.key(), scripts,
                             autoDepsMode,
                             directWebDependenciesIds::contains);
+                    bundledEntryPoints.put(entryPoint.key(), scripts);
                     addedEntryPoints++;
                 }
             }
 
+            manifest.save();
+
             if (addedEntryPoints == 0) {
                 List<String> scripts = new ArrayList<>();
                 if (browserLiveReload) {
@@ -227,34 +199,125 @@ public class BundlePrepareProcessor {
                 }
                 optionsBuilder.addAutoEntryPoint(targetDir.webBundler(), DEFAULT_ENTRY_POINT_KEY, scripts, autoDepsMode,
                         directWebDependenciesIds::contains);
+                bundledEntryPoints.put(DEFAULT_ENTRY_POINT_KEY, scripts);
                 LOGGER.info("No custom Web Bundling entry points found, it will be generated based on web dependencies.");
             }
 
             final BundleOptions options = optionsBuilder.build();
-            return new ReadyForBundlingBuildItem(startTime, options, targetDir.dist(), fixedNames);
+            final Map<String, BundleOptions> entryPointsBundleOptions = new TreeMap<>();
+            if (!launchMode.getLaunchMode().isDev() && config.bundling().parallel() && bundledEntryPoints.size() > 1) {
+                // Each entry point gets its own esbuild run and work dir (concurrent runs must not share one),
+                // the output dirs are merged in the dist dir once bundled
+                for (Map.Entry<String, List<String>> entryPoint : bundledEntryPoints.entrySet()) {
+                    final Path entryPointWorkDir = targetDir.webBundler().resolve(DIST + "-" + entryPoint.getKey());
+                    final BundleOptionsBuilder entryPointOptionsBuilder = createBundleOptionsBuilder(config,
+                            installedWebDependencies, plugins, entryPointWorkDir,
+                            createEsBuildConfig(config, launchMode, httpRootPath, loaders, false,
+                                    StringPaths.join(DIST, config.bundlePath())));
+                    // The entry point is generated in its work dir, the prepared assets are in the parent dir
+                    entryPointOptionsBuilder.addAutoEntryPoint(entryPointWorkDir, entryPoint.getKey(),
+                            entryPoint.getValue().stream().map(script -> "../" + script).toList(), autoDepsMode,
+                            directWebDependenciesIds::contains);
+                    entryPointsBundleOptions.put(entryPoint.getKey(), entryPointOptionsBuilder.build());
+                }
+            }
+            String inputsDigest = null;
+            if (!launchMode.getLaunchMode().isDev() && config.bundling().cache()) {
+                if (plugins.stream().allMatch(WebBundlerEsbuildPluginBuiltItem::isCacheable)) {
+                    inputsDigest = BundleCache.digest(
+                            describeBundlingInputs(config, launchMode, loaders, installedWebDependencies, plugins,
+                                    bundledEntryPoints, autoDepsMode, directWebDependenciesIds),
+                            targetDir.webBundler(), preparedAssets);
+                } else {
+                    LOGGER.debugf("Web Bundler cache is disabled because some plugins can't be cached: %s", plugins);
+                }
+            }
+            return new ReadyForBundlingBuildItem(startTime, options, targetDir.dist(), fixedNames, inputsDigest,
+                    entryPointsBundleOptions);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    private static EsBuildConfig createEsBuildConfig(WebBundlerConfig config,
+            LaunchModeBuildItem launchMode,
+            HttpRootPathBuildItem httpRootPath,
+            Map<String, EsBuildConfig.Loader> loaders,
+            boolean browserLiveReload,
+            String outDir) {
+        final EsBuildConfigBuilder esBuildConfigBuilder = EsBuildConfig.builder()
+                .loader(loaders)
+                .outDir(outDir)
+                .publicPath(config.publicBundlePath())
+                .splitting(config.bundling().splitting())
+                .sourceMap(config.bundling().sourceMapEnabled())
+                .define(LAUNCH_MODE_ENV, "'" + launchMode.getLaunchMode().name() + "'");
+        if (browserLiveReload) {
+            esBuildConfigBuilder
+                    .preserveSymlinks()
+                    .minify(false)
+                    .define("process.env.LIVE_RELOAD_PATH",
+                            "'" + StringPaths.join(httpRootPath.getRootPath(), WEB_BUNDLER_LIVE_RELOAD_PATH)
+                                    + "'")
+                    .fixedEntryNames();
+        }
+        if (!config.bundling().envs().isEmpty()) {
+            esBuildConfigBuilder.define(config.bundling().safeEnvs());
+        }
+        if (config.bundling().external().isPresent()) {
+            for (String e : config.bundling().external().get()) {
+                esBuildConfigBuilder.addExternal(e);
+            }
+        } else {
+            esBuildConfigBuilder.addExternal(join(config.httpRootPath(), "static/*"));
+        }
+        return esBuildConfigBuilder.build();
+    }
+
+    private static BundleOptionsBuilder createBundleOptionsBuilder(WebBundlerConfig config,
+            InstalledWebDependenciesBuildItem installedWebDependencies,
+            List<WebBundlerEsbuildPluginBuiltItem> plugins,
+            Path workDir,
+            EsBuildConfig esBuildConfig) {
+        final BundleOptionsBuilder optionsBuilder = BundleOptions.builder()
+                .debugBuild(config.debug())
+                .withWorkDir(workDir)
+                .withDependencies(installedWebDependencies.toEsBuildWebDependencies())
+                .withEsConfig(esBuildConfig)
+                .withNodeModulesDir(installedWebDependencies.nodeModulesDir());
+
+        final Set<String> installedPlugins = new HashSet<>();
+
+        for (WebBundlerEsbuildPluginBuiltItem plugin : plugins) {
+            if (installedPlugins.add(plugin.get().name())) {
+                optionsBuilder.addPlugin(plugin.get());
+            } else {
+                throw new IllegalStateException("EsBuild plugins should only be installed once:" + plugins);
+            }
+        }
+
+        if (config.sass()) {
+            optionsBuilder.addPlugin(new EsBuildPluginSass());
+        }
+        return optionsBuilder;
+    }
+
     static void createAsset(
             LaunchModeBuildItem launchMode,
             boolean browserLiveReload,
             BuildProducer<DevWatchedLinkBuildItem> watchedLinks,
             BuildProducer<HotDeploymentWatchedFileBuildItem> watchedFiles,
+            PreparedAssetsManifest manifest,
             ProjectFile webAsset,
             Path targetPath) throws IOException {
         Files.createDirectories(targetPath.getParent());
         if (launchMode.getLaunchMode().isDev()) {
             // Dev mode: symlink or copy with live-reload watchers
             createLinkOrCopy(browserLiveReload, watchedLinks, watchedFiles, webAsset, targetPath);
-        } else if (webAsset.isLocalFile()) {
-            // Local file (e.g. during the build): copy directly to avoid loading into memory
-            Files.copy(webAsset.file(), targetPath, StandardCopyOption.REPLACE_EXISTING);
         } else {
-            // Archive resource (JAR): read content bytes
-            Files.write(targetPath, webAsset.content(), StandardOpenOption.CREATE,
-                    StandardOpenOption.TRUNCATE_EXISTING);
+            // Local file or archive resource (JAR): stream it to avoid loading into memory
+            // (skipped when unchanged in incremental mode)
+            manifest.prepare(webAsset, targetPath);
         }
 
     }
@@ -288,12 +351,58 @@ public class BundlePrepareProcessor {
         } else if (webAsset.isLocalFile()) {
             // In that case we copy the target file
             watchedLinks.produce(new DevWatchedLinkBuildItem(webAsset.file(), targetPath, false));
-            Files.copy(webAsset.file(), targetPath, StandardCopyOption.REPLACE_EXISTING);
+            webAsset.transferTo(targetPath);
         } else {
-            // We write the content
-            Files.write(targetPath, webAsset.content(), StandardOpenOption.CREATE,
-                    StandardOpenOption.TRUNCATE_EXISTING);
+            // We stream the content
+            webAsset.transferTo(targetPath);
+        }
+    }
+
+    /**
+     * Describes everything, apart from the prepared assets content, which affects the bundling output.
+     */
+    private static List<String> describeBundlingInputs(WebBundlerConfig config,
+            LaunchModeBuildItem launchMode,
+            Map<String, EsBuildConfig.Loader> loaders,
+            InstalledWebDependenciesBuildItem installedWebDependencies,
+            List<WebBundlerEsbuildPluginBuiltItem> plugins,
+            Map<String, List<String>> bundledEntryPoints,
+            AutoEntryPoint.AutoDepsMode autoDepsMode,
+            Set<String> directWebDependenciesIds) throws IOException {
+        final List<String> inputs = new ArrayList<>();
+        final CodeSource esBuild = Bundler.class.getProtectionDomain().getCodeSource();
+        inputs.add("esbuild=" + (esBuild != null ? esBuild.getLocation()
+                : Bundler.class.getPackage().getImplementationVersion()));
+        inputs.add("launch-mode=" + launchMode.getLaunchMode());
+        inputs.add("loaders=" + new TreeMap<>(loaders));
+        inputs.add("bundle-path=" + config.bundlePath());
+        inputs.add("public-bundle-path=" + config.publicBundlePath());
+        inputs.add("splitting=" + config.bundling().splitting());
+        inputs.add("source-map=" + config.bundling().sourceMapEnabled());
+        inputs.add("envs=" + new TreeMap<>(config.bundling().safeEnvs()));
+        inputs.add("external=" + config.bundling().external().map(List::copyOf)
+                .orElse(List.of(join(config.httpRootPath(), "static/*"))));
+        inputs.add("debug=" + config.debug());
+        inputs.add("sass=" + config.sass());
+        inputs.add("parallel=" + config.bundling().parallel());
+        for (WebBundlerEsbuildPluginBuiltItem plugin : plugins) {
+            inputs.add("plugin=" + plugin.get().name() + ":" + plugin.cacheKey());
+        }
+        inputs.add("auto-deps-mode=" + autoDepsMode);
+        inputs.add("direct-dependencies=" + new TreeSet<>(directWebDependenciesIds));
+        for (Map.Entry<String, List<String>> entryPoint : bundledEntryPoints.entrySet()) {
+            inputs.add("entry-point=" + entryPoint.getKey() + ":" + entryPoint.getValue());
+        }
+        for (Dependency dependency : installedWebDependencies.list()) {
+            final StringBuilder input = new StringBuilder("dependency=").append(dependency.id()).append(':')
+                    .append(dependency.type()).append(':').append(dependency.path());
+            if (dependency.path() != null && Files.isRegularFile(dependency.path())) {
+                input.append(':').append(Files.size(dependency.path()))
+                        .append(':').append(Files.getLastModifiedTime(dependency.path()).toMillis());
+            }
+            inputs.add(input.toString());
         }
+        return inputs;
     }
 
     private byte[] readLiveReloadJs() throws IOException {
@@ -10,6 +10,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -20,7 +21,9 @@ import java.util.stream.Stream;
 import org.jboss.logging.Logger;
 
 import io.mvnpm.esbuild.Bundler;
+import io.mvnpm.esbuild.model.BundleOptions;
 import io.mvnpm.esbuild.model.BundleResult;
+import io.quarkiverse.tools.paralleltasks.ParallelTasks;
 import io.quarkiverse.web.bundler.deployment.config.WebBundlerConfig;
 import io.quarkiverse.web.bundler.deployment.items.GeneratedBundleBuildItem;
 import io.quarkiverse.web.bundler.deployment.items.GeneratedEntryPointBuildItem;
@@ -28,6 +31,7 @@ import io.quarkiverse.web.bundler.deployment.items.GeneratedWebResourceBuildItem
 import io.quarkiverse.web.bundler.deployment.items.GeneratedWebResourceBuildItem.SourceType;
 import io.quarkiverse.web.bundler.deployment.items.ReadyForBundlingBuildItem;
 import io.quarkiverse.web.bundler.runtime.Bundle;
+import io.quarkiverse.web.bundler.runtime.BundleMapping;
 import io.quarkiverse.web.bundler.runtime.BundleRedirectHandlerRecorder;
 import io.quarkiverse.web.bundler.runtime.WebBundlerBuildRecorder;
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
@@ -37,6 +41,7 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.util.FileUtil;
 import io.quarkus.runtime.LaunchMode;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
 
@@ -62,23 +67,87 @@ class BundleProcessor {
                 generatedEntryPointProducer);
     }
 
-    static BundleResult bundleAndProcess(WebBundlerConfig config, ReadyForBundlingBuildItem readyForBundling,
+    static void bundleAndProcess(WebBundlerConfig config, ReadyForBundlingBuildItem readyForBundling,
             BuildProducer<GeneratedWebResourceBuildItem> staticResourceProducer,
             BuildProducer<GeneratedBundleBuildItem> generatedBundleProducer,
             BuildProducer<GeneratedEntryPointBuildItem> generatedEntryPointProducer) {
         try {
             final long startedBundling = Instant.now().toEpochMilli();
-            final BundleResult result = Bundler.bundle(readyForBundling.bundleOptions(), false);
+            final Path workDir = readyForBundling.bundleOptions().workDir();
+            final String inputsDigest = readyForBundling.inputsDigest();
+            Path bundleDir = inputsDigest != null
+                    ? BundleCache.restore(workDir, readyForBundling.distDir(), inputsDigest)
+                    : null;
+            if (bundleDir != null) {
+                LOGGER.info("Web Bundler inputs didn't change, reusing the cached bundle");
+            } else {
+                bundleDir = readyForBundling.entryPointsBundleOptions().isEmpty()
+                        ? Bundler.bundle(readyForBundling.bundleOptions(), false).dist()
+                        : bundleEntryPointsInParallel(readyForBundling, config.buildThreads());
+                if (inputsDigest != null) {
+                    BundleCache.store(workDir, readyForBundling.distDir(), bundleDir, inputsDigest);
+                }
+            }
 
-            handleBundleDistDir(config, generatedBundleProducer, staticResourceProducer, result.dist(),
+            handleBundleDistDir(config, generatedBundleProducer, staticResourceProducer, bundleDir,
                     readyForBundling.fixedNames(), startedBundling);
-            processGeneratedEntryPoints(readyForBundling.bundleOptions().workDir(), generatedEntryPointProducer);
-            return result;
+            processGeneratedEntryPoints(workDir, generatedEntryPointProducer);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
     }
 
+    /**
+     * Bundles each entry point in its own esbuild run and work dir, concurrently, then merges the output dirs in the
+     * dist dir and moves the generated entry points to the work dir.
+     *
+     * @return the merged bundle dir
+     */
+    private static Path bundleEntryPointsInParallel(ReadyForBundlingBuildItem readyForBundling, int threads)
+            throws IOException {
+        final Path workDir = readyForBundling.bundleOptions().workDir();
+        final Map<String, BundleOptions> entryPoints = readyForBundling.entryPointsBundleOptions();
+        final List<ParallelTasks.Task<BundleResult>> tasks = new ArrayList<>(entryPoints.size());
+        for (BundleOptions entryPointOptions : entryPoints.values()) {
+            tasks.add(() -> {
+                FileUtil.deleteDirectory(entryPointOptions.workDir());
+                Files.createDirectories(entryPointOptions.workDir());
+                return Bundler.bundle(entryPointOptions, false);
+            });
+        }
+        final List<BundleResult> results = ParallelTasks.run("web-bundler", threads, tasks);
+        Path bundleDir = null;
+        int i = 0;
+        for (Map.Entry<String, BundleOptions> entryPoint : entryPoints.entrySet()) {
+            final Path entryPointWorkDir = entryPoint.getValue().workDir();
+            final Path entryPointBundleDir = results.get(i++).dist();
+            bundleDir = readyForBundling.distDir()
+                    .resolve(entryPointWorkDir.resolve(BundleWebAssetsScannerProcessor.DIST).relativize(entryPointBundleDir));
+            mergeDir(entryPointBundleDir, bundleDir);
+            final String generatedEntryPoint = entryPoint.getKey() + ".js";
+            if (Files.isRegularFile(entryPointWorkDir.resolve(generatedEntryPoint))) {
+                Files.move(entryPointWorkDir.resolve(generatedEntryPoint), workDir.resolve(generatedEntryPoint),
+                        StandardCopyOption.REPLACE_EXISTING);
+            }
+            FileUtil.deleteDirectory(entryPointWorkDir);
+        }
+        LOGGER.debugf("Web Bundler bundled %d entry points in parallel", entryPoints.size());
+        return bundleDir;
+    }
+
+    /**
+     * Moves the files to the target dir, files with the same name (shared chunks) have the same content.
+     */
+    private static void mergeDir(Path source, Path target) throws IOException {
+        try (Stream<Path> stream = Files.walk(source)) {
+            for (Path p : stream.filter(Files::isRegularFile).toList()) {
+                final Path dest = target.resolve(source.relativize(p).toString());
+                Files.createDirectories(dest.getParent());
+                Files.move(p, dest, StandardCopyOption.REPLACE_EXISTING);
+            }
+        }
+    }
+
     static void processGeneratedEntryPoints(Path targetDir,
             BuildProducer<GeneratedEntryPointBuildItem> generatedEntryPointProducer) {
         try (Stream<Path> generatedEPStream = Files.find(targetDir, 1, (path, basicFileAttributes) -> Files.isRegularFile(path)
@@ -101,6 +170,7 @@ class BundleProcessor {
             long startTime) {
         try {
             Map<String, String> bundle = new HashMap<>();
+            Map<String, String> entryPointScripts = new HashMap<>();
             List<String> names = new ArrayList<>();
             StringBuilder mappingString = new StringBuilder();
             try (Stream<Path> stream = Files.find(bundleDir, 20, (p, i) -> Files.isRegularFile(p))) {
@@ -114,13 +184,16 @@ class BundleProcessor {
                     if (Bundle.BUNDLE_MAPPING_EXT.contains(ext)) {
                         mappingString.append("  ").append(key).append(" => ").append(publicBundleAssetPath).append("\n");
                         bundle.put(key, publicBundleAssetPath);
+                        if (key.endsWith(".js") && !key.contains("chunk")) {
+                            entryPointScripts.put(key.substring(0, key.length() - ".js".length()), relativePath);
+                        }
                     }
                     names.add(publicBundleAssetPath);
                     if (config.shouldQuarkusServeBundle()) {
                         // The root-path will already be added by the static resources handler
                         final String resourcePath = surroundWithSlashes(config.bundlePath()) + relativePath;
                         staticResourceProducer.produce(GeneratedWebResourceBuildItem.fromFile(resourcePath, path.normalize(),
-                                SourceType.BUNDLED_ASSET));
+                                SourceType.BUNDLED_ASSET, !key.equals(relativePath)));
                     }
                 });
             }
@@ -134,7 +207,9 @@ class BundleProcessor {
                 LOGGER.infof("Web Bundler bundle#mapping:\n%s", mappingString);
             }
 
-            generatedBundleProducer.produce(new GeneratedBundleBuildItem(bundleDir, bundle));
+            final Map<String, List<String>> preloads = BundlePreloads.compute(bundleDir, entryPointScripts,
+                    config.publicBundlePath());
+            generatedBundleProducer.produce(new GeneratedBundleBuildItem(bundleDir, bundle, preloads));
         } catch (IOException e) {
             throw new RuntimeException(e);
         }
@@ -148,8 +223,11 @@ class BundleProcessor {
             GeneratedBundleBuildItem generatedBundle,
             WebBundlerBuildRecorder recorder) {
         final Map<String, String> bundle = generatedBundle != null ? generatedBundle.getBundle() : Map.of();
+        final Map<String, List<String>> preloads = generatedBundle != null ? generatedBundle.getPreloads() : Map.of();
+        // The import map is rendered on each page view, it is computed once at build time
+        final String importMap = new BundleMapping(bundle).importMap();
         syntheticBeans.produce(SyntheticBeanBuildItem.configure(Bundle.Mapping.class)
-                .supplier(recorder.createContext(bundle))
+                .supplier(recorder.createContext(bundle, importMap, preloads))
                 .done());
         additionalBeans.produce(new AdditionalBeanBuildItem(Bundle.class));
     }
@@ -159,8 +237,16 @@ class BundleProcessor {
     void initBundleRedirect(WebBundlerConfig config, BuildProducer<RouteBuildItem> routes,
             BundleRedirectHandlerRecorder recorder, GeneratedBundleBuildItem generatedBundle) {
         if (config.bundleRedirect() && generatedBundle != null) {
+            // Resolved once: fixed public path (e.g. /static/bundle/app.js) => public path with the hash
+            final Map<String, String> redirects = new HashMap<>();
+            for (Map.Entry<String, String> e : generatedBundle.getBundle().entrySet()) {
+                final String fixedPath = join(config.publicBundlePath(), e.getKey());
+                if (!e.getKey().contains("/") && !fixedPath.equals(e.getValue())) {
+                    redirects.put(fixedPath, e.getValue());
+                }
+            }
             routes.produce(RouteBuildItem.builder().route(join(prefixWithSlash(config.bundlePath()), "*"))
-                    .handler(recorder.handler(generatedBundle.getBundle()))
+                    .handler(recorder.handler(redirects, config.bundleRedirectReroute()))
                     .build());
         }
     }
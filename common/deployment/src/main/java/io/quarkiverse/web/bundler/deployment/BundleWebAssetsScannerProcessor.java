@@ -14,6 +14,7 @@ import java.util.Optional;
 import java.util.TreeMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.jboss.logging.Logger;
 
@@ -48,7 +49,11 @@ class BundleWebAssetsScannerProcessor {
     public static final String DIST = "dist";
 
     @BuildStep(onlyIfNot = IsDevelopment.class)
-    WebBundlerTargetDirBuildItem initTargetDirProd(OutputTargetBuildItem outputTarget, LaunchModeBuildItem launchMode) {
+    WebBundlerTargetDirBuildItem initTargetDirProd(OutputTargetBuildItem outputTarget, LaunchModeBuildItem launchMode,
+            WebBundlerConfig config) {
+        if (config.bundling().incremental()) {
+            return getIncrementalWebBundlerTargetDirBuildItem(outputTarget, launchMode);
+        }
         return getWebBundlerTargetDirBuildItem(outputTarget, launchMode, false);
     }
 
@@ -81,6 +86,31 @@ class BundleWebAssetsScannerProcessor {
         return new WebBundlerTargetDirBuildItem(targetDir, distDir, keepDir && Files.isDirectory(distDir));
     }
 
+    /**
+     * Keeps the prepared assets (see {@link PreparedAssetsManifest}) but removes the previous bundling output
+     * and generated entry points.
+     */
+    private static WebBundlerTargetDirBuildItem getIncrementalWebBundlerTargetDirBuildItem(OutputTargetBuildItem outputTarget,
+            LaunchModeBuildItem launchMode) {
+        final String targetDirName = TARGET_DIR_NAME + launchMode.getLaunchMode().getDefaultProfile();
+        final Path targetDir = outputTarget.getOutputDirectory().resolve(targetDirName);
+        final Path distDir = targetDir.resolve(DIST);
+        try {
+            FileUtil.deleteDirectory(distDir);
+            if (Files.isDirectory(targetDir)) {
+                try (Stream<Path> generatedEntryPoints = Files.find(targetDir, 1,
+                        (p, a) -> a.isRegularFile() && p.getFileName().toString().endsWith(".js"))) {
+                    for (Path p : generatedEntryPoints.toList()) {
+                        Files.delete(p);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new WebBundlerTargetDirBuildItem(targetDir, distDir, false);
+    }
+
     @BuildStep
     void collect(ProjectScannerBuildItem scanner,
             BuildProducer<EntryPointBuildItem> bundles,
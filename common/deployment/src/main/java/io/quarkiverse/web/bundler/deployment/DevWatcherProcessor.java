@@ -9,15 +9,19 @@ import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 
 import org.jboss.logging.Logger;
 
+import io.quarkiverse.tools.projectscanner.ScanChangedFilesBuildItem;
 import io.quarkiverse.web.bundler.deployment.config.WebBundlerConfig;
 import io.quarkiverse.web.bundler.deployment.items.DevWatchedLinkBuildItem;
 import io.quarkiverse.web.bundler.deployment.items.DevWatcherHistoryBuildItem;
@@ -48,6 +52,15 @@ public class DevWatcherProcessor {
         return new DevWatcherHistoryBuildItem(watcher.changesHistory());
     }
 
+    @BuildStep(onlyIf = IsDevelopment.class)
+    @Consume(LiveReloadBuildItem.class)
+    ScanChangedFilesBuildItem getScanChangedFiles(WebBundlerConfig config) {
+        if (!config.browserLiveReload() || watcher == null) {
+            return null;
+        }
+        return watcher.scanChangedFiles();
+    }
+
     @BuildStep(onlyIf = IsDevelopment.class)
     @Produce(DevWatcherStartedBuildItem.class)
     void startWatch(WebBundlerConfig config,
@@ -76,6 +89,7 @@ public class DevWatcherProcessor {
     final static class DevWatcher {
 
         private static final SkippingExecutor BUILD_EXECUTOR = new SkippingExecutor();
+        private static final AtomicLong SEQUENCE = new AtomicLong();
 
         private static final Logger LOG = Logger.getLogger(DevWatcher.class);
         private final WatchServiceFileSystemWatcher watcher;
@@ -86,6 +100,9 @@ public class DevWatcherProcessor {
         private final AtomicReference<Map<Path, Link>> watchedLinks;
         private final FileChangeCallback callback;
         private final AtomicReference<List<FileChangeEvent>> changesHistory;
+        // Not reset on reload: the files are only removed once indexed by the project scanner
+        private final Queue<Path> scanChanges = new ConcurrentLinkedQueue<>();
+        private volatile long watchSequence;
 
         public DevWatcher(List<Path> webDirs, Map<Path, Link> links, Set<Path> watchedDirs) {
             this.webDirs = new AtomicReference<>(webDirs);
@@ -95,6 +112,7 @@ public class DevWatcherProcessor {
             this.callback = this::handleChanges;
             this.watcher = new WatchServiceFileSystemWatcher("Dev Watcher", true);
             this.watchedDirs.forEach(dir -> watcher.watchDirectoryRecursively(dir, callback));
+            this.watchSequence = SEQUENCE.incrementAndGet();
             this.started = true;
         }
 
@@ -114,6 +132,20 @@ public class DevWatcherProcessor {
             return changesHistory.get();
         }
 
+        /**
+         * @return the files changed since the last index of the project scanner, they are removed once it indexed them
+         */
+        public ScanChangedFilesBuildItem scanChangedFiles() {
+            final long sequence = SEQUENCE.incrementAndGet();
+            // Files are only added to the tail meanwhile, the first ones are removed once indexed
+            final List<Path> files = List.copyOf(scanChanges);
+            return new ScanChangedFilesBuildItem(files, watchSequence, sequence, () -> {
+                for (int i = 0; i < files.size(); i++) {
+                    scanChanges.poll();
+                }
+            });
+        }
+
         public void reload(List<Path> webDirs, Map<Path, Link> links, Set<Path> watchedDirs) {
             changesHistory.getAndSet(new ArrayList<>());
             this.watchedLinks.set(links);
@@ -128,11 +160,17 @@ public class DevWatcherProcessor {
             // Only add new directories. Unwatching during reload can deadlock with the
             // PollingWatchService timer thread (AB-BA lock ordering in JDK internals).
             // Stale watches are harmless since handleChanges filters by webDirs/started.
+            boolean added = false;
             for (Path watchedDir : watchedDirs) {
                 if (!previousDirs.contains(watchedDir)) {
                     watcher.watchDirectoryRecursively(watchedDir, callback);
+                    added = true;
                 }
             }
+            if (added) {
+                // The changes of the new directories are missing before
+                watchSequence = SEQUENCE.incrementAndGet();
+            }
         }
 
         private void handleChanges(Collection<FileChangeEvent> changes) {
@@ -141,6 +179,9 @@ public class DevWatcherProcessor {
                 return;
 
             this.changesHistory.get().addAll(changes);
+            for (FileChangeEvent change : changes) {
+                scanChanges.add(change.getFile());
+            }
 
             boolean web = isWebChange(changes.stream().map(FileChangeEvent::getFile).toList());
 
@@ -0,0 +1,120 @@
+package io.quarkiverse.web.bundler.deployment;
+
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Conservative minification of the rendered build-time templates: comments are removed (except conditional comments) and
+ * whitespace runs are collapsed to a single space, which doesn't change the rendering.
+ * <p>
+ * The content of {@code script}, {@code style}, {@code pre} and {@code textarea} elements and the quoted attribute values
+ * are kept as is.
+ */
+final class HtmlMinifier {
+
+    private static final Set<String> RAW_ELEMENTS = Set.of("script", "style", "pre", "textarea");
+
+    private HtmlMinifier() {
+    }
+
+    static String minify(String html) {
+        final StringBuilder out = new StringBuilder(html.length());
+        final int length = html.length();
+        int i = 0;
+        while (i < length) {
+            final char c = html.charAt(i);
+            if (c == '<' && html.startsWith("<!--", i)) {
+                final int end = html.indexOf("-->", i + 4);
+                final int next = end == -1 ? length : end + 3;
+                if (html.startsWith("<!--[if", i)) {
+                    out.append(html, i, next);
+                }
+                i = next;
+            } else if (c == '<' && i + 1 < length && isTagStart(html.charAt(i + 1))) {
+                final int tagEnd = appendTag(html, i, out);
+                final String rawElement = rawElement(html, i + 1);
+                i = tagEnd;
+                if (rawElement != null) {
+                    final int close = indexOfIgnoreCase(html, "</" + rawElement, i);
+                    final int next = close == -1 ? length : close;
+                    out.append(html, i, next);
+                    i = next;
+                }
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(html.charAt(i))) {
+                    i++;
+                }
+                // Also avoids a double space where a comment was removed
+                if (!out.isEmpty() && i < length && out.charAt(out.length() - 1) != ' ') {
+                    out.append(' ');
+                }
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        return out.toString();
+    }
+
+    private static boolean isTagStart(char c) {
+        return Character.isLetter(c) || c == '/' || c == '!';
+    }
+
+    /**
+     * Appends the tag starting at {@code start} with its whitespace collapsed outside the quoted attribute values.
+     *
+     * @return the index following the tag
+     */
+    private static int appendTag(String html, int start, StringBuilder out) {
+        final int length = html.length();
+        char quote = 0;
+        int i = start;
+        while (i < length) {
+            final char c = html.charAt(i);
+            if (quote != 0) {
+                out.append(c);
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '"' || c == '\'') {
+                quote = c;
+                out.append(c);
+            } else if (c == '>') {
+                out.append(c);
+                return i + 1;
+            } else if (Character.isWhitespace(c)) {
+                while (i + 1 < length && Character.isWhitespace(html.charAt(i + 1))) {
+                    i++;
+                }
+                if (i + 1 < length && html.charAt(i + 1) != '>') {
+                    out.append(' ');
+                }
+            } else {
+                out.append(c);
+            }
+            i++;
+        }
+        return length;
+    }
+
+    /**
+     * @return the name of the raw element opened at {@code nameStart} or {@code null}
+     */
+    private static String rawElement(String html, int nameStart) {
+        int nameEnd = nameStart;
+        while (nameEnd < html.length() && Character.isLetterOrDigit(html.charAt(nameEnd))) {
+            nameEnd++;
+        }
+        final String name = html.substring(nameStart, nameEnd).toLowerCase(Locale.ROOT);
+        return RAW_ELEMENTS.contains(name) ? name : null;
+    }
+
+    private static int indexOfIgnoreCase(String html, String value, int from) {
+        for (int i = from; i <= html.length() - value.length(); i++) {
+            if (html.regionMatches(true, i, value, 0, value.length())) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,135 @@
+package io.quarkiverse.web.bundler.deployment;
+
+import static io.quarkiverse.tools.stringpaths.StringPaths.toUnixPath;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jboss.logging.Logger;
+
+import io.quarkiverse.tools.projectscanner.ProjectFile;
+
+/**
+ * Keeps track of the assets prepared in a work dir (index path, size and content hash),
+ * so that incremental builds only write the assets which changed and remove the ones which are gone.
+ * Unchanged files keep their modification time, which is what esbuild sees.
+ */
+final class PreparedAssetsManifest {
+
+    private static final Logger LOGGER = Logger.getLogger(PreparedAssetsManifest.class);
+
+    static final String MANIFEST_FILE_NAME = "prepared-assets.manifest";
+
+    private final Path workDir;
+    private final Map<String, Entry> previous;
+    private final Map<String, Entry> current = new TreeMap<>();
+    private int skipped;
+
+    private PreparedAssetsManifest(Path workDir, Map<String, Entry> previous) {
+        this.workDir = workDir;
+        this.previous = previous;
+    }
+
+    static PreparedAssetsManifest disabled() {
+        return new PreparedAssetsManifest(null, Map.of());
+    }
+
+    static PreparedAssetsManifest load(Path workDir) {
+        final Path file = workDir.resolve(MANIFEST_FILE_NAME);
+        final Map<String, Entry> entries = new HashMap<>();
+        if (Files.isRegularFile(file)) {
+            try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final String[] parts = line.split("\t");
+                    if (parts.length == 3) {
+                        entries.put(parts[0], new Entry(Long.parseLong(parts[1]), parts[2]));
+                    }
+                }
+            } catch (IOException | NumberFormatException e) {
+                LOGGER.debugf(e, "Ignoring invalid prepared assets manifest: %s", file);
+                entries.clear();
+            }
+        }
+        return new PreparedAssetsManifest(workDir, entries);
+    }
+
+    boolean isEnabled() {
+        return workDir != null;
+    }
+
+    /**
+     * Writes the asset to the target unless the same content was already prepared there by a previous build.
+     */
+    void prepare(ProjectFile webAsset, Path targetPath) throws IOException {
+        if (!isEnabled()) {
+            webAsset.transferTo(targetPath);
+            return;
+        }
+        final String key = toKey(targetPath);
+        final Entry entry = hash(webAsset);
+        current.put(key, entry);
+        if (entry.equals(previous.get(key)) && Files.isRegularFile(targetPath)
+                && Files.size(targetPath) == entry.size()) {
+            skipped++;
+            return;
+        }
+        webAsset.transferTo(targetPath);
+    }
+
+    /**
+     * Deletes the assets prepared by a previous build which are not part of this one and writes the manifest.
+     */
+    void save() throws IOException {
+        if (!isEnabled()) {
+            return;
+        }
+        int deleted = 0;
+        for (String key : previous.keySet()) {
+            if (!current.containsKey(key) && Files.deleteIfExists(workDir.resolve(key))) {
+                deleted++;
+            }
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(workDir.resolve(MANIFEST_FILE_NAME), StandardCharsets.UTF_8)) {
+            for (Map.Entry<String, Entry> e : current.entrySet()) {
+                writer.write(e.getKey() + "\t" + e.getValue().size() + "\t" + e.getValue().hash());
+                writer.newLine();
+            }
+        }
+        LOGGER.debugf("Prepared %d assets in %s (%d unchanged, %d removed)", current.size(), workDir, skipped, deleted);
+    }
+
+    private String toKey(Path targetPath) {
+        return toUnixPath(workDir.relativize(targetPath).toString());
+    }
+
+    private static Entry hash(ProjectFile webAsset) throws IOException {
+        try (InputStream in = webAsset.openStream()) {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] buffer = new byte[8192];
+            long size = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+                size += read;
+            }
+            return new Entry(size, HexFormat.of().formatHex(digest.digest()));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(long size, String hash) {
+    }
+}
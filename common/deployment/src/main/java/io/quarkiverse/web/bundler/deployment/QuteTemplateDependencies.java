@@ -0,0 +1,139 @@
+package io.quarkiverse.web.bundler.deployment;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.eclipse.microprofile.config.ConfigProvider;
+
+import io.quarkiverse.web.bundler.runtime.Bundle;
+
+/**
+ * Tracks the inputs read by the build-time templates while rendering (config properties and bundle mapping lookups), so
+ * that in dev mode only the templates with a changed source or input are rendered again.
+ * <p>
+ * Rendering is synchronous, the inputs are recorded for the template being rendered by the current thread.
+ * The Web Bundler tags are part of the extension, they can't change during a dev session and are not tracked.
+ */
+final class QuteTemplateDependencies {
+
+    private static final ThreadLocal<Map<Input, Object>> CURRENT = new ThreadLocal<>();
+
+    enum Kind {
+        CONFIG,
+        BUNDLE_GET,
+        BUNDLE_NAMES,
+        BUNDLE_SCRIPT,
+        BUNDLE_STYLE,
+        BUNDLE_IMPORT_MAP,
+        BUNDLE_PRELOADS
+    }
+
+    record Input(Kind kind, String name) {
+    }
+
+    /**
+     * A rendered template with the inputs it read (values may be {@code null}).
+     */
+    record Rendered(String source, Map<Input, Object> inputs, String content) {
+
+        boolean isUpToDate(String source, Bundle.Mapping mapping) {
+            if (!this.source.equals(source)) {
+                return false;
+            }
+            for (Map.Entry<Input, Object> e : inputs.entrySet()) {
+                if (!Objects.equals(e.getValue(), resolve(e.getKey(), mapping))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    private QuteTemplateDependencies() {
+    }
+
+    static Rendered render(String source, Supplier<String> renderer) {
+        final Map<Input, Object> inputs = new HashMap<>();
+        CURRENT.set(inputs);
+        try {
+            final String content = renderer.get();
+            return new Rendered(source, Collections.unmodifiableMap(inputs), content);
+        } finally {
+            CURRENT.remove();
+        }
+    }
+
+    static void recordConfig(String propertyName) {
+        if (CURRENT.get() != null) {
+            record(Kind.CONFIG, propertyName, configValue(propertyName));
+        }
+    }
+
+    /**
+     * @return a mapping recording the lookups of the template being rendered
+     */
+    static Bundle.Mapping tracking(Bundle.Mapping mapping) {
+        return new Bundle.Mapping() {
+            @Override
+            public String get(String name) {
+                return record(Kind.BUNDLE_GET, name, mapping.get(name));
+            }
+
+            @Override
+            public Set<String> names() {
+                record(Kind.BUNDLE_NAMES, "", Set.copyOf(mapping.names()));
+                return mapping.names();
+            }
+
+            @Override
+            public String script(String key) {
+                return record(Kind.BUNDLE_SCRIPT, key, mapping.script(key));
+            }
+
+            @Override
+            public String style(String key) {
+                return record(Kind.BUNDLE_STYLE, key, mapping.style(key));
+            }
+
+            @Override
+            public String importMap() {
+                return record(Kind.BUNDLE_IMPORT_MAP, "", mapping.importMap());
+            }
+
+            @Override
+            public List<String> preloads(String key) {
+                return record(Kind.BUNDLE_PRELOADS, key, mapping.preloads(key));
+            }
+        };
+    }
+
+    private static <T> T record(Kind kind, String name, T value) {
+        final Map<Input, Object> inputs = CURRENT.get();
+        if (inputs != null) {
+            inputs.put(new Input(kind, name), value);
+        }
+        return value;
+    }
+
+    private static Object resolve(Input input, Bundle.Mapping mapping) {
+        return switch (input.kind()) {
+            case CONFIG -> configValue(input.name());
+            case BUNDLE_GET -> mapping.get(input.name());
+            case BUNDLE_NAMES -> Set.copyOf(mapping.names());
+            case BUNDLE_SCRIPT -> mapping.script(input.name());
+            case BUNDLE_STYLE -> mapping.style(input.name());
+            case BUNDLE_IMPORT_MAP -> mapping.importMap();
+            case BUNDLE_PRELOADS -> mapping.preloads(input.name());
+        };
+    }
+
+    private static String configValue(String propertyName) {
+        // The raw value, whatever the type requested by the template
+        return ConfigProvider.getConfig().getOptionalValue(propertyName, String.class).orElse(null);
+    }
+}
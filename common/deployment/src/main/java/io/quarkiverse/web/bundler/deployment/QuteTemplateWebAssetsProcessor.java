@@ -6,17 +6,27 @@ import static java.util.concurrent.CompletableFuture.completedFuture;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.UncheckedIOException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
 
 import org.eclipse.microprofile.config.ConfigProvider;
+import org.jboss.logging.Logger;
 
+import io.quarkiverse.tools.paralleltasks.ParallelTasks;
 import io.quarkiverse.tools.projectscanner.ProjectFile;
 import io.quarkiverse.web.bundler.deployment.config.WebBundlerConfig;
 import io.quarkiverse.web.bundler.deployment.items.GeneratedBundleBuildItem;
@@ -24,10 +34,13 @@ import io.quarkiverse.web.bundler.deployment.items.GeneratedWebResourceBuildItem
 import io.quarkiverse.web.bundler.deployment.items.GeneratedWebResourceBuildItem.SourceType;
 import io.quarkiverse.web.bundler.deployment.items.QuteTemplatesBuildItem;
 import io.quarkiverse.web.bundler.deployment.items.WebBundlerTargetDirBuildItem;
+import io.quarkiverse.web.bundler.deployment.items.WebResourceEarlyHintsBuildItem;
 import io.quarkiverse.web.bundler.runtime.Bundle;
+import io.quarkiverse.web.bundler.runtime.BundleMapping;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.qute.Engine;
 import io.quarkus.qute.EvalContext;
 import io.quarkus.qute.Expression;
@@ -44,28 +57,29 @@ import io.quarkus.qute.Variant;
 
 public class QuteTemplateWebAssetsProcessor {
 
+    private static final Logger LOGGER = Logger.getLogger(QuteTemplateWebAssetsProcessor.class);
+
     @BuildStep
     void processHtmlTemplateWebAssets(QuteTemplatesBuildItem htmlTemplates,
             WebBundlerTargetDirBuildItem targetDirBuildItem,
             GeneratedBundleBuildItem generatedBundle,
             BuildProducer<GeneratedWebResourceBuildItem> staticResourceProducer,
+            BuildProducer<WebResourceEarlyHintsBuildItem> earlyHintsProducer,
             LaunchModeBuildItem launchMode,
+            LiveReloadBuildItem liveReload,
             WebBundlerConfig config) {
         if (htmlTemplates.getWebAssets().isEmpty()) {
             return;
         }
         final Map<String, String> bundle = generatedBundle != null ? generatedBundle.getBundle() : Map.of();
-        final Bundle.Mapping mapping = new Bundle.Mapping() {
-            @Override
-            public String get(String name) {
-                return bundle.get(name);
-            }
-
-            @Override
-            public Set<String> names() {
-                return bundle.keySet();
-            }
-        };
+        final Map<String, List<String>> preloads = generatedBundle != null ? generatedBundle.getPreloads() : Map.of();
+        final boolean dev = launchMode.getLaunchMode().isDev();
+        final boolean earlyHints = config.earlyHints() && !dev;
+        final Bundle.Mapping bundleMapping = new BundleMapping(bundle, null, preloads);
+        // The bundle lookups are tracked to only render again the templates affected by a change in dev mode,
+        // and to know the bundle files used by each template for the Early Hints
+        final Bundle.Mapping mapping = dev || earlyHints ? QuteTemplateDependencies.tracking(bundleMapping)
+                : bundleMapping;
         final Engine engine = Engine.builder()
                 .addDefaults()
                 .addNamespaceResolver(NamespaceResolver.builder("inject")
@@ -86,13 +100,122 @@ public class QuteTemplateWebAssetsProcessor {
                 .addParserHook(new Qute.IndexedArgumentsParserHook())
                 .addResultMapper(new HtmlEscaper(ImmutableList.of("text/html", "text/xml")))
                 .build();
-        for (ProjectFile webAsset : htmlTemplates.getWebAssets()) {
-            final byte[] bytes = webAsset.content();
-            Template template = engine.parse(new String(bytes, webAsset.charset()));
-            final String content = template.render();
-            final String servePath = webAsset.scopedPath();
+        final List<ProjectFile> webAssets = htmlTemplates.getWebAssets();
+        final List<String> rendered;
+        final Map<String, String> earlyHintsLinks = new ConcurrentHashMap<>();
+        if (dev) {
+            final QuteTemplatesDevContext previous = liveReload.getContextObject(QuteTemplatesDevContext.class);
+            final Map<String, QuteTemplateDependencies.Rendered> renderedTemplates = new ConcurrentHashMap<>();
+            final AtomicInteger renderCount = new AtomicInteger();
+            rendered = renderTemplates(webAssets, config.buildThreads(), webAsset -> {
+                final String source = new String(webAsset.content(), webAsset.charset());
+                QuteTemplateDependencies.Rendered renderedTemplate = previous == null ? null
+                        : previous.renderedTemplates().get(webAsset.scopedPath());
+                if (renderedTemplate == null || !renderedTemplate.isUpToDate(source, bundleMapping)) {
+                    renderedTemplate = QuteTemplateDependencies.render(source, () -> engine.parse(source).render());
+                    renderCount.incrementAndGet();
+                }
+                renderedTemplates.put(webAsset.scopedPath(), renderedTemplate);
+                return renderedTemplate.content();
+            });
+            liveReload.setContextObject(QuteTemplatesDevContext.class, new QuteTemplatesDevContext(renderedTemplates));
+            LOGGER.debugf("Web Bundler rendered %d of %d build-time templates", renderCount.get(), webAssets.size());
+        } else {
+            final boolean minify = config.minifyHtml();
+            rendered = renderTemplates(webAssets, config.buildThreads(), webAsset -> {
+                final String content;
+                if (earlyHints) {
+                    final String source = new String(webAsset.content(), webAsset.charset());
+                    final QuteTemplateDependencies.Rendered renderedTemplate = QuteTemplateDependencies.render(source,
+                            () -> engine.parse(source).render());
+                    final String link = earlyHintsLink(renderedTemplate.inputs(), preloads);
+                    if (link != null) {
+                        earlyHintsLinks.put(webAsset.scopedPath(), link);
+                    }
+                    content = renderedTemplate.content();
+                } else {
+                    content = render(engine, webAsset);
+                }
+                return minify ? HtmlMinifier.minify(content) : content;
+            });
+            LOGGER.debugf("Web Bundler rendered %d build-time templates", webAssets.size());
+        }
+        // Produced in the templates order, whatever the rendering order
+        for (int i = 0; i < webAssets.size(); i++) {
+            final String content = rendered.get(i);
+            final String servePath = webAssets.get(i).scopedPath();
             staticResourceProducer.produce(GeneratedWebResourceBuildItem.fromContent(prefixWithSlash(servePath),
-                    content.getBytes(), SourceType.BUILD_TIME_TEMPLATE));
+                    content.getBytes(StandardCharsets.UTF_8), SourceType.BUILD_TIME_TEMPLATE));
+            final String link = earlyHintsLinks.get(servePath);
+            if (link != null) {
+                earlyHintsProducer.produce(new WebResourceEarlyHintsBuildItem(prefixWithSlash(servePath), link));
+            }
+        }
+    }
+
+    /**
+     * Renders the templates concurrently (the engine is thread-safe), the result is in the templates order.
+     */
+    private static List<String> renderTemplates(List<ProjectFile> webAssets, int threads,
+            Function<ProjectFile, String> renderer) {
+        final List<ParallelTasks.Task<String>> tasks = new ArrayList<>(webAssets.size());
+        for (ProjectFile webAsset : webAssets) {
+            tasks.add(() -> renderer.apply(webAsset));
+        }
+        try {
+            return ParallelTasks.run("web-bundler-qute", threads, tasks);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String render(Engine engine, ProjectFile webAsset) {
+        final Template template = engine.parse(new String(webAsset.content(), webAsset.charset()));
+        return template.render();
+    }
+
+    /**
+     * Link header for the bundle scripts and styles looked up while rendering the template (and the chunks imported by
+     * the scripts), in a stable order.
+     */
+    static String earlyHintsLink(Map<QuteTemplateDependencies.Input, Object> inputs,
+            Map<String, List<String>> preloads) {
+        final Map<QuteTemplateDependencies.Input, Object> sorted = new TreeMap<>(
+                Comparator.comparing(QuteTemplateDependencies.Input::name)
+                        .thenComparing(QuteTemplateDependencies.Input::kind));
+        sorted.putAll(inputs);
+        final Set<String> links = new LinkedHashSet<>();
+        for (Map.Entry<QuteTemplateDependencies.Input, Object> e : sorted.entrySet()) {
+            final String name = e.getKey().name();
+            if (!(e.getValue() instanceof String path)) {
+                continue;
+            }
+            switch (e.getKey().kind()) {
+                case BUNDLE_STYLE -> links.add(styleLink(path));
+                case BUNDLE_SCRIPT -> addScriptLinks(links, path, preloads.getOrDefault(name, List.of()));
+                case BUNDLE_GET -> {
+                    if (name.endsWith(".css")) {
+                        links.add(styleLink(path));
+                    } else if (name.endsWith(".js")) {
+                        addScriptLinks(links, path,
+                                preloads.getOrDefault(name.substring(0, name.length() - ".js".length()), List.of()));
+                    }
+                }
+                default -> {
+                }
+            }
+        }
+        return links.isEmpty() ? null : String.join(", ", links);
+    }
+
+    private static String styleLink(String path) {
+        return "<" + path + ">; rel=preload; as=style";
+    }
+
+    private static void addScriptLinks(Set<String> links, String path, List<String> chunks) {
+        links.add("<" + path + ">; rel=modulepreload");
+        for (String chunk : chunks) {
+            links.add("<" + chunk + ">; rel=modulepreload");
         }
     }
 
@@ -112,6 +235,7 @@ public class QuteTemplateWebAssetsProcessor {
     }
 
     private static <T> CompletableFuture<Object> findConfig(String propertyName, Class<T> type) {
+        QuteTemplateDependencies.recordConfig(propertyName);
         Optional<T> val = ConfigProvider.getConfig().getOptionalValue(propertyName, type);
         return completedFuture(val.isPresent() ? val.get() : Results.NotFound.from(propertyName));
     }
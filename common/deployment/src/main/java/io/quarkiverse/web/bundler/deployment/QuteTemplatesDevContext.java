@@ -0,0 +1,9 @@
+package io.quarkiverse.web.bundler.deployment;
+
+import java.util.Map;
+
+/**
+ * The build-time templates rendered by the previous dev build, by scoped path.
+ */
+record QuteTemplatesDevContext(Map<String, QuteTemplateDependencies.Rendered> renderedTemplates) {
+}
@@ -22,6 +22,8 @@ import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 
 public class StaticWebAssetsProcessor {
 
+    private static final String PUBLIC_ASSETS_DIR = "public-assets";
+
     @BuildStep
     void processPublicWebAssets(
             LaunchModeBuildItem launchMode,
@@ -31,6 +33,10 @@ public class StaticWebAssetsProcessor {
             BuildProducer<DevWatchedLinkBuildItem> watchedLinks,
             BuildProducer<HotDeploymentWatchedFileBuildItem> watchedFiles,
             BuildProducer<GeneratedWebResourceBuildItem> staticResourceProducer) {
+        // In incremental mode, unchanged public assets are not written again and the removed ones are deleted
+        final PreparedAssetsManifest manifest = !launchMode.getLaunchMode().isDev() && config.bundling().incremental()
+                ? PreparedAssetsManifest.load(targetDir.webBundler().resolve(PUBLIC_ASSETS_DIR))
+                : PreparedAssetsManifest.disabled();
         for (ProjectFile webAsset : staticAssets.getWebAssets()) {
             final String publicPath = config.stripWebRootPrefix(webAsset.indexPath()).replace("public/", "");
             final Path targetPath = targetDir.dist().resolve(publicPath);
@@ -42,14 +48,23 @@ public class StaticWebAssetsProcessor {
                             prefixWithSlash(publicPath),
                             targetPath, SourceType.STATIC_ASSET));
                 } else {
-                    staticResourceProducer.produce(GeneratedWebResourceBuildItem.fromContent(
+                    // Stream the asset to the target dir, large files (fonts, images, videos) never sit in memory
+                    final Path buildPath = targetDir.webBundler().resolve(PUBLIC_ASSETS_DIR).resolve(publicPath);
+                    Files.createDirectories(buildPath.getParent());
+                    manifest.prepare(webAsset, buildPath);
+                    staticResourceProducer.produce(GeneratedWebResourceBuildItem.fromFile(
                             prefixWithSlash(publicPath),
-                            webAsset.content(), SourceType.STATIC_ASSET));
+                            buildPath, SourceType.STATIC_ASSET));
                 }
             } catch (IOException e) {
                 throw new UncheckedIOException(e);
             }
         }
+        try {
+            manifest.save();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
 }
@@ -5,6 +5,7 @@ import static io.quarkiverse.tools.stringpaths.StringPaths.prefixWithSlash;
 import static io.quarkiverse.tools.stringpaths.StringPaths.stripPrefix;
 import static java.util.function.Predicate.not;
 
+import java.time.Duration;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -134,6 +135,51 @@ public interface WebBundlerConfig {
     @WithDefault("false")
     Boolean bundleRedirect();
 
+    /**
+     * When enabled with {@code bundle-redirect}, the fixed bundle paths serve the corresponding file containing the unique
+     * hash directly (internal reroute) instead of answering with a redirection, this saves a round trip for the clients.
+     */
+    @WithDefault("false")
+    boolean bundleRedirectReroute();
+
+    /**
+     * Configure the HTTP caching headers of the web resources served by Quarkus (prod and test only)
+     */
+    HttpCacheConfig httpCache();
+
+    /**
+     * Configure the build-time compression of the web resources served by Quarkus (prod and test only)
+     */
+    PrecompressionConfig precompression();
+
+    /**
+     * Configure the in-memory serving of the generated web resources (prod and test only)
+     */
+    InMemoryConfig inMemory();
+
+    /**
+     * When enabled, the build-time templates are served with 103 Early Hints linking the bundle scripts and styles they
+     * use (and the chunks imported by the scripts), so that browsers start loading them while waiting for the page
+     * (prod and test only).
+     */
+    @WithDefault("false")
+    boolean earlyHints();
+
+    /**
+     * When enabled, the rendered build-time templates are minified: comments are removed and whitespace is collapsed (prod
+     * and test only). The content of the inline scripts and styles is kept as is.
+     */
+    @WithDefault("false")
+    boolean minifyHtml();
+
+    /**
+     * The maximum number of threads of the Web Bundler build work which can run concurrently: the esbuild runs of the
+     * entry points (when {@code bundling.parallel} is enabled) and the rendering of the build-time templates.
+     * With {@code 1}, this work is sequential. The output is the same whatever the number of threads.
+     */
+    @WithDefault("1")
+    int buildThreads();
+
     default String httpRootPath() {
         Config allConfig = ConfigProvider.getConfig();
         final String rootPath = allConfig.getOptionalValue("quarkus.http.root-path", String.class)
@@ -153,6 +199,91 @@ public interface WebBundlerConfig {
         return !isExternalBundlePath();
     }
 
+    interface HttpCacheConfig {
+
+        /**
+         * When enabled, the generated web resources are served with a strong {@code ETag} computed at build time and
+         * conditional requests are answered without reading them. The bundle files with a content hash in their name are
+         * served with an immutable {@code Cache-Control}, the others with the {@link #cacheControl()} header.
+         */
+        @WithDefault("true")
+        boolean enabled();
+
+        /**
+         * The max-age of the bundle files with a content hash in their name.
+         */
+        @WithDefault("365d")
+        Duration immutableMaxAge();
+
+        /**
+         * The {@code Cache-Control} header of the generated web resources without a content hash in their name
+         * (static assets, build-time templates, ...). The default makes the clients revalidate them on each use, which is
+         * cheap with the build-time {@code ETag}. Set it to {@code none} to leave the header unchanged.
+         */
+        @WithDefault("no-cache")
+        String cacheControl();
+
+        default String immutableCacheControl() {
+            return "public, max-age=" + immutableMaxAge().toSeconds() + ", immutable";
+        }
+
+        default Optional<String> cacheControlOrNone() {
+            return Optional.of(cacheControl()).filter(not("none"::equalsIgnoreCase));
+        }
+    }
+
+    interface PrecompressionConfig {
+
+        /**
+         * When enabled, a gzip variant of the generated web resources (bundle, static assets and build-time templates) is
+         * created at build time and served to the clients accepting the gzip encoding.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Resources smaller than this size (in bytes) are not compressed.
+         */
+        @WithDefault("1024")
+        int minSize();
+
+        /**
+         * The extensions of the resources to compress.
+         */
+        @WithDefault("js,mjs,css,html,svg,json,map,txt,xml")
+        Set<String> extensions();
+
+        default boolean shouldCompress(String publicPath, long size) {
+            if (size < minSize()) {
+                return false;
+            }
+            final int dot = publicPath.lastIndexOf('.');
+            return dot != -1 && dot > publicPath.lastIndexOf('/') && extensions().contains(publicPath.substring(dot + 1));
+        }
+    }
+
+    interface InMemoryConfig {
+
+        /**
+         * When enabled, the small generated web resources (and their precompressed variant) are loaded in off-heap memory
+         * on startup and served from there, without any file-system or class-loader lookup.
+         */
+        @WithDefault("false")
+        boolean enabled();
+
+        /**
+         * Resources bigger than this size (in bytes) are not loaded in memory.
+         */
+        @WithDefault("65536")
+        int maxFileSize();
+
+        /**
+         * The maximum memory (in bytes) used by all the resources loaded in memory.
+         */
+        @WithDefault("10485760")
+        long maxTotalSize();
+    }
+
     interface BundlingConfig {
         /**
          * Enable or disable bundle splitting (https://esbuild.github.io/api/#splitting)
@@ -206,6 +337,35 @@ public interface WebBundlerConfig {
             return v;
         }
 
+        /**
+         * Prepare the bundling work directory incrementally in prod and test builds.
+         * <p>
+         * The work directory is kept between builds and only the assets which changed (based on their content hash)
+         * are written again, unchanged assets keep their modification time. Assets which are gone are removed.
+         * Public assets are prepared the same way.
+         */
+        @WithDefault("false")
+        boolean incremental();
+
+        /**
+         * Cache the bundling output in prod and test builds and reuse it when the bundling inputs didn't change.
+         * <p>
+         * The inputs are the prepared web assets content, the bundling options, the web dependencies and the esbuild plugins.
+         * Bundling is never cached when a plugin reads sources outside the bundling work directory (e.g. Tailwind CSS).
+         */
+        @WithDefault("false")
+        boolean cache();
+
+        /**
+         * Bundle each entry point in its own esbuild run, concurrently (on up to {@code build-threads} threads), in prod
+         * and test builds.
+         * <p>
+         * This is faster on multi-core machines for apps with many independent entry points, but code shared between
+         * entry points is not split into common chunks anymore (it is duplicated in each entry point bundle).
+         */
+        @WithDefault("false")
+        boolean parallel();
+
         default boolean sourceMapEnabled() {
             return "linked".equalsIgnoreCase(sourceMap())
                     || "true".equalsIgnoreCase(sourceMap())
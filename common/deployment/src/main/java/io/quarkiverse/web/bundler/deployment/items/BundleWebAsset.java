@@ -1,5 +1,7 @@
 package io.quarkiverse.web.bundler.deployment.items;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
 import java.nio.file.Path;
 
@@ -30,6 +32,16 @@ public record BundleWebAsset(ProjectFile webAsset, BundleType bundleType) implem
         return webAsset.content();
     }
 
+    @Override
+    public InputStream openStream() throws IOException {
+        return webAsset.openStream();
+    }
+
+    @Override
+    public void transferTo(Path target) throws IOException {
+        webAsset.transferTo(target);
+    }
+
     @Override
     public Path file() {
         return webAsset.file();
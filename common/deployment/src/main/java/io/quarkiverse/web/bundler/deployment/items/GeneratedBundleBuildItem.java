@@ -1,6 +1,7 @@
 package io.quarkiverse.web.bundler.deployment.items;
 
 import java.nio.file.Path;
+import java.util.List;
 import java.util.Map;
 
 import io.quarkus.builder.item.SimpleBuildItem;
@@ -9,10 +10,16 @@ public final class GeneratedBundleBuildItem extends SimpleBuildItem {
 
     private final Path bundlePath;
     private final Map<String, String> bundle;
+    private final Map<String, List<String>> preloads;
 
     public GeneratedBundleBuildItem(Path bundlePath, Map<String, String> bundle) {
+        this(bundlePath, bundle, Map.of());
+    }
+
+    public GeneratedBundleBuildItem(Path bundlePath, Map<String, String> bundle, Map<String, List<String>> preloads) {
         this.bundlePath = bundlePath;
         this.bundle = bundle;
+        this.preloads = preloads;
     }
 
     public Path getBundlePath() {
@@ -22,4 +29,11 @@ public final class GeneratedBundleBuildItem extends SimpleBuildItem {
     public Map<String, String> getBundle() {
         return bundle;
     }
+
+    /**
+     * @return the public paths of the chunks statically imported by each entry point (by entry point key)
+     */
+    public Map<String, List<String>> getPreloads() {
+        return preloads;
+    }
 }
@@ -7,11 +7,19 @@ import io.quarkus.builder.item.MultiBuildItem;
 public final class GeneratedWebResourceBuildItem extends MultiBuildItem {
 
     public static GeneratedWebResourceBuildItem fromFile(String publicPath, Path path, SourceType type) {
-        return new GeneratedWebResourceBuildItem(publicPath, path, null, type);
+        return fromFile(publicPath, path, type, false);
+    }
+
+    /**
+     * @param contentHashed true when the file name contains a hash of its content (it never changes for a given path)
+     */
+    public static GeneratedWebResourceBuildItem fromFile(String publicPath, Path path, SourceType type,
+            boolean contentHashed) {
+        return new GeneratedWebResourceBuildItem(publicPath, path, null, type, contentHashed);
     }
 
     public static GeneratedWebResourceBuildItem fromContent(String publicPath, byte[] content, SourceType type) {
-        return new GeneratedWebResourceBuildItem(publicPath, null, content, type);
+        return new GeneratedWebResourceBuildItem(publicPath, null, content, type, false);
     }
 
     public enum SourceType {
@@ -41,12 +49,15 @@ public final class GeneratedWebResourceBuildItem extends MultiBuildItem {
     private final Path path;
     private final byte[] content;
     private final SourceType type;
+    private final boolean contentHashed;
 
-    private GeneratedWebResourceBuildItem(String publicPath, Path path, byte[] content, SourceType type) {
+    private GeneratedWebResourceBuildItem(String publicPath, Path path, byte[] content, SourceType type,
+            boolean contentHashed) {
         this.publicPath = publicPath;
         this.path = path;
         this.content = content;
         this.type = type;
+        this.contentHashed = contentHashed;
     }
 
     public String publicPath() {
@@ -64,4 +75,8 @@ public final class GeneratedWebResourceBuildItem extends MultiBuildItem {
     public SourceType type() {
         return type;
     }
+
+    public boolean contentHashed() {
+        return contentHashed;
+    }
 }
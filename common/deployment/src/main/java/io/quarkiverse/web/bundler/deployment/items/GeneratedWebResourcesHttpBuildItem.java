@@ -0,0 +1,67 @@
+package io.quarkiverse.web.bundler.deployment.items;
+
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * What is needed at runtime to serve the generated web resources with the right HTTP headers (paths include the http
+ * root path).
+ */
+public final class GeneratedWebResourcesHttpBuildItem extends SimpleBuildItem {
+
+    private final Set<String> precompressedPaths;
+    private final Map<String, String> etags;
+    private final Set<String> immutablePaths;
+    private final Map<String, String> earlyHints;
+    private final Map<String, String> inMemoryResources;
+
+    public GeneratedWebResourcesHttpBuildItem(Set<String> precompressedPaths, Map<String, String> etags,
+            Set<String> immutablePaths, Map<String, String> earlyHints, Map<String, String> inMemoryResources) {
+        this.precompressedPaths = precompressedPaths;
+        this.etags = etags;
+        this.immutablePaths = immutablePaths;
+        this.earlyHints = earlyHints;
+        this.inMemoryResources = inMemoryResources;
+    }
+
+    /**
+     * @return the paths which have a precompressed (gzip) variant served next to them ({@code path.gz})
+     */
+    public Set<String> precompressedPaths() {
+        return precompressedPaths;
+    }
+
+    /**
+     * @return the ETag values (digest of the content computed at build time) by path
+     */
+    public Map<String, String> etags() {
+        return etags;
+    }
+
+    /**
+     * @return the paths which never change (content hash in the name)
+     */
+    public Set<String> immutablePaths() {
+        return immutablePaths;
+    }
+
+    /**
+     * @return the Link header to send as 103 Early Hints by path
+     */
+    public Map<String, String> earlyHints() {
+        return earlyHints;
+    }
+
+    /**
+     * @return the public path (without the http root path) of the resources served from memory by path
+     */
+    public Map<String, String> inMemoryResources() {
+        return inMemoryResources;
+    }
+
+    public boolean isEmpty() {
+        return precompressedPaths.isEmpty() && etags.isEmpty() && earlyHints.isEmpty() && inMemoryResources.isEmpty();
+    }
+}
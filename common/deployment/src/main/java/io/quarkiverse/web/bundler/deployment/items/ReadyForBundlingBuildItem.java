@@ -1,6 +1,7 @@
 package io.quarkiverse.web.bundler.deployment.items;
 
 import java.nio.file.Path;
+import java.util.Map;
 
 import io.mvnpm.esbuild.model.BundleOptions;
 import io.quarkus.builder.item.SimpleBuildItem;
@@ -14,11 +15,22 @@ public final class ReadyForBundlingBuildItem extends SimpleBuildItem {
 
     private final boolean fixedNames;
 
+    private final String inputsDigest;
+
+    private final Map<String, BundleOptions> entryPointsBundleOptions;
+
     public ReadyForBundlingBuildItem(long startTime, BundleOptions bundleOptions, Path distDir, boolean fixedNames) {
+        this(startTime, bundleOptions, distDir, fixedNames, null, Map.of());
+    }
+
+    public ReadyForBundlingBuildItem(long startTime, BundleOptions bundleOptions, Path distDir, boolean fixedNames,
+            String inputsDigest, Map<String, BundleOptions> entryPointsBundleOptions) {
         this.startTime = startTime;
         this.bundleOptions = bundleOptions;
         this.distDir = distDir;
         this.fixedNames = fixedNames;
+        this.inputsDigest = inputsDigest;
+        this.entryPointsBundleOptions = entryPointsBundleOptions;
     }
 
     public long startTime() {
@@ -37,4 +49,18 @@ public final class ReadyForBundlingBuildItem extends SimpleBuildItem {
         return distDir;
     }
 
+    /**
+     * @return the digest of all the bundling inputs or {@code null} when the bundling output must not be cached
+     */
+    public String inputsDigest() {
+        return inputsDigest;
+    }
+
+    /**
+     * @return the options to bundle each entry point separately (in parallel), empty to bundle them all at once
+     */
+    public Map<String, BundleOptions> entryPointsBundleOptions() {
+        return entryPointsBundleOptions;
+    }
+
 }
@@ -5,15 +5,33 @@ import io.quarkus.builder.item.MultiBuildItem;
 
 public final class WebBundlerEsbuildPluginBuiltItem extends MultiBuildItem {
     private final EsBuildPlugin plugin;
+    private final String cacheKey;
 
     public WebBundlerEsbuildPluginBuiltItem(EsBuildPlugin plugin) {
+        this(plugin, null);
+    }
+
+    /**
+     * @param cacheKey describes everything (apart from the bundled files) which affects the plugin output,
+     *        {@code null} if the plugin output can't be cached (e.g. it reads sources outside the bundling work dir)
+     */
+    public WebBundlerEsbuildPluginBuiltItem(EsBuildPlugin plugin, String cacheKey) {
         this.plugin = plugin;
+        this.cacheKey = cacheKey;
     }
 
     public EsBuildPlugin get() {
         return plugin;
     }
 
+    public String cacheKey() {
+        return cacheKey;
+    }
+
+    public boolean isCacheable() {
+        return cacheKey != null;
+    }
+
     @Override
     public String toString() {
         return plugin.name();
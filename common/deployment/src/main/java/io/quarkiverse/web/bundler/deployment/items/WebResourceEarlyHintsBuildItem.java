@@ -0,0 +1,25 @@
+package io.quarkiverse.web.bundler.deployment.items;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * The {@code Link} header to send as 103 Early Hints before serving a generated web resource.
+ */
+public final class WebResourceEarlyHintsBuildItem extends MultiBuildItem {
+
+    private final String publicPath;
+    private final String link;
+
+    public WebResourceEarlyHintsBuildItem(String publicPath, String link) {
+        this.publicPath = publicPath;
+        this.link = link;
+    }
+
+    public String publicPath() {
+        return publicPath;
+    }
+
+    public String link() {
+        return link;
+    }
+}
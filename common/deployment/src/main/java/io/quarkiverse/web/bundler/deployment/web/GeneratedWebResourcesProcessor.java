@@ -1,24 +1,45 @@
 package io.quarkiverse.web.bundler.deployment.web;
 
+import static io.quarkiverse.web.bundler.runtime.GeneratedWebResourcesHandlerRecorder.GZIP_EXT;
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.nio.file.Files;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
 
 import org.jboss.logging.Logger;
 
 import io.quarkiverse.tools.stringpaths.StringPaths;
 import io.quarkiverse.web.bundler.deployment.config.WebBundlerConfig;
 import io.quarkiverse.web.bundler.deployment.items.GeneratedWebResourceBuildItem;
+import io.quarkiverse.web.bundler.deployment.items.GeneratedWebResourcesHttpBuildItem;
 import io.quarkiverse.web.bundler.deployment.items.ReadyForBundlingBuildItem;
 import io.quarkiverse.web.bundler.deployment.items.WatchedWebDirsBuildItem;
 import io.quarkiverse.web.bundler.deployment.items.WebBundlerTargetDirBuildItem;
+import io.quarkiverse.web.bundler.deployment.items.WebResourceEarlyHintsBuildItem;
+import io.quarkiverse.web.bundler.runtime.GeneratedWebResourcesHandlerRecorder;
 import io.quarkiverse.web.bundler.runtime.WebBundlerResourceRecorder;
 import io.quarkus.deployment.IsDevelopment;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.vertx.http.deployment.RouteBuildItem;
 import io.quarkus.vertx.http.deployment.spi.GeneratedStaticResourceBuildItem;
@@ -29,23 +50,177 @@ public class GeneratedWebResourcesProcessor {
 
     @BuildStep
     public void processStaticFiles(
+            WebBundlerConfig config,
+            LaunchModeBuildItem launchMode,
             List<GeneratedWebResourceBuildItem> staticResources,
-            BuildProducer<GeneratedStaticResourceBuildItem> generatedStaticResourceProducer) {
+            List<WebResourceEarlyHintsBuildItem> earlyHints,
+            BuildProducer<GeneratedStaticResourceBuildItem> generatedStaticResourceProducer,
+            BuildProducer<GeneratedWebResourcesHttpBuildItem> generatedWebResourcesHttpProducer) {
         if (staticResources.isEmpty()) {
             return;
         }
 
+        final boolean dev = launchMode.getLaunchMode().isDev();
+        final boolean precompression = !dev && config.precompression().enabled();
+        final boolean httpCache = !dev && config.httpCache().enabled();
+        final boolean inMemory = !dev && config.inMemory().enabled();
+        final Set<String> precompressed = new HashSet<>();
+        final Map<String, String> etags = new HashMap<>();
+        final Set<String> immutable = new HashSet<>();
+        final Map<String, String> inMemoryResources = new HashMap<>();
+        long originalSize = 0;
+        long compressedSize = 0;
+        long inMemorySize = 0;
         for (GeneratedWebResourceBuildItem staticResource : staticResources) {
+            final String path = resolveFromRootPath(config.httpRootPath(), staticResource.publicPath());
+            final long size;
+            // Only the precompression needs the whole content of the files, the ETag is computed while streaming them
+            byte[] content = null;
             if (staticResource.path() != null) {
-                if (Files.isRegularFile(staticResource.path())) {
-                    generatedStaticResourceProducer.produce(
-                            new GeneratedStaticResourceBuildItem(staticResource.publicPath(), staticResource.path()));
+                if (!Files.isRegularFile(staticResource.path())) {
+                    continue;
+                }
+                generatedStaticResourceProducer.produce(
+                        new GeneratedStaticResourceBuildItem(staticResource.publicPath(), staticResource.path()));
+                size = size(staticResource);
+                if (precompression && config.precompression().shouldCompress(staticResource.publicPath(), size)) {
+                    content = readContent(staticResource);
                 }
             } else {
                 generatedStaticResourceProducer.produce(
                         new GeneratedStaticResourceBuildItem(staticResource.publicPath(), staticResource.content()));
+                content = staticResource.content();
+                size = content.length;
+            }
+            if (httpCache) {
+                etags.put(path, content != null ? etag(content) : etag(staticResource));
+                if (staticResource.contentHashed()) {
+                    immutable.add(path);
+                }
+            }
+            int gzippedSize = 0;
+            if (precompression && config.precompression().shouldCompress(staticResource.publicPath(), size)) {
+                final byte[] gzipped = gzip(content);
+                // Only worth serving when smaller
+                if (gzipped.length < size) {
+                    generatedStaticResourceProducer.produce(
+                            new GeneratedStaticResourceBuildItem(staticResource.publicPath() + GZIP_EXT, gzipped));
+                    precompressed.add(path);
+                    originalSize += size;
+                    compressedSize += gzipped.length;
+                    gzippedSize = gzipped.length;
+                }
+            }
+            if (inMemory && size <= config.inMemory().maxFileSize()
+                    && inMemorySize + size + gzippedSize <= config.inMemory().maxTotalSize()) {
+                inMemoryResources.put(path, staticResource.publicPath());
+                inMemorySize += size + gzippedSize;
+            }
+        }
+        if (!inMemoryResources.isEmpty()) {
+            LOGGER.debugf("Web Bundler will serve %d resources from memory (%d bytes)", inMemoryResources.size(),
+                    inMemorySize);
+        }
+        if (!precompressed.isEmpty()) {
+            LOGGER.debugf("Web Bundler precompressed %d resources (%d bytes to %d bytes)", precompressed.size(),
+                    originalSize, compressedSize);
+        }
+        final Map<String, String> earlyHintsLinks = new HashMap<>();
+        for (WebResourceEarlyHintsBuildItem earlyHint : earlyHints) {
+            earlyHintsLinks.put(resolveFromRootPath(config.httpRootPath(), earlyHint.publicPath()), earlyHint.link());
+        }
+        final GeneratedWebResourcesHttpBuildItem generatedWebResourcesHttp = new GeneratedWebResourcesHttpBuildItem(
+                precompressed, etags, immutable, earlyHintsLinks, inMemoryResources);
+        if (!generatedWebResourcesHttp.isEmpty()) {
+            generatedWebResourcesHttpProducer.produce(generatedWebResourcesHttp);
+        }
+    }
+
+    @BuildStep
+    @Record(RUNTIME_INIT)
+    void initGeneratedWebResourcesHandler(WebBundlerConfig config,
+            GeneratedWebResourcesHttpBuildItem generatedWebResourcesHttp,
+            GeneratedWebResourcesHandlerRecorder recorder,
+            ShutdownContextBuildItem shutdownContext,
+            BuildProducer<RouteBuildItem> routes) {
+        if (generatedWebResourcesHttp == null) {
+            return;
+        }
+        final boolean httpCache = config.httpCache().enabled();
+        routes.produce(RouteBuildItem.builder().route("/*")
+                .handler(recorder.handler(generatedWebResourcesHttp.precompressedPaths(),
+                        generatedWebResourcesHttp.etags(),
+                        generatedWebResourcesHttp.immutablePaths(),
+                        generatedWebResourcesHttp.earlyHints(),
+                        generatedWebResourcesHttp.inMemoryResources(),
+                        httpCache ? config.httpCache().immutableCacheControl() : null,
+                        httpCache ? config.httpCache().cacheControlOrNone().orElse(null) : null,
+                        shutdownContext))
+                .build());
+    }
+
+    /**
+     * Strong ETag value computed from the content (truncated SHA-256).
+     */
+    private static String etag(byte[] content) {
+        final MessageDigest digest = sha256();
+        digest.update(content);
+        return etag(digest);
+    }
+
+    /**
+     * Same as {@link #etag(byte[])}, without loading the file in memory.
+     */
+    private static String etag(GeneratedWebResourceBuildItem staticResource) {
+        final MessageDigest digest = sha256();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(staticResource.path()), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return etag(digest);
+    }
+
+    private static String etag(MessageDigest digest) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest.digest(), 16));
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static long size(GeneratedWebResourceBuildItem staticResource) {
+        try {
+            return Files.size(staticResource.path());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] readContent(GeneratedWebResourceBuildItem staticResource) {
+        try {
+            return Files.readAllBytes(staticResource.path());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static byte[] gzip(byte[] content) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
             }
+        }) {
+            gzip.write(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
         }
+        return out.toByteArray();
     }
 
     @BuildStep(onlyIf = IsDevelopment.class)
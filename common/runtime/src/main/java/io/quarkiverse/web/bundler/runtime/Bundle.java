@@ -1,6 +1,8 @@
 package io.quarkiverse.web.bundler.runtime;
 
+import java.util.List;
 import java.util.Set;
+import java.util.TreeSet;
 
 import jakarta.inject.Inject;
 import jakarta.inject.Named;
@@ -28,9 +30,27 @@ public class Bundle {
     }
 
     public String importMap() {
+        return mapping.importMap();
+    }
+
+    /**
+     * Resolve the public paths of the chunks statically imported by the entry point script, they can be preloaded
+     * ({@code <link rel="modulepreload">}) to avoid discovering them one after another.
+     *
+     * @param key the fixed entry point key (eg.: main)
+     * @return the chunks public paths (eg.: [static/chunk-KK3V2K5Q.js])
+     */
+    public List<String> preloads(String key) {
+        return mapping.preloads(key);
+    }
+
+    /**
+     * Create the import map JSON for the scripts of this mapping (chunks excluded).
+     */
+    public static String createImportMap(Mapping mapping) {
         final JsonObject imports = new JsonObject();
 
-        for (String name : mapping.names()) {
+        for (String name : new TreeSet<>(mapping.names())) {
             if (name.endsWith(".js") && !name.contains("chunk")) {
                 imports.put(name, mapping.get(name));
                 imports.put(name.replace(".js", ""), mapping.get(name));
@@ -47,7 +67,7 @@ public class Bundle {
      * @return the file public path (eg.: static/main-HE233H4.js)
      */
     public String script(String key) {
-        return mapping.get(key + ".js");
+        return mapping.script(key);
     }
 
     public String resolve(String name) {
@@ -61,12 +81,28 @@ public class Bundle {
      * @return the file public path (eg.: static/main-HE233H4.css)
      */
     public String style(String key) {
-        return mapping.get(key + ".css");
+        return mapping.style(key);
     }
 
     public interface Mapping {
         String get(String name);
 
         Set<String> names();
+
+        default String script(String key) {
+            return get(key + ".js");
+        }
+
+        default String style(String key) {
+            return get(key + ".css");
+        }
+
+        default String importMap() {
+            return createImportMap(this);
+        }
+
+        default List<String> preloads(String key) {
+            return List.of();
+        }
     }
 }
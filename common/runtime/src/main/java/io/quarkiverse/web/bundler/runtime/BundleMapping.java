@@ -0,0 +1,76 @@
+package io.quarkiverse.web.bundler.runtime;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable {@link Bundle.Mapping} created once from the bundle generated at build time.
+ * <p>
+ * Scripts and styles are indexed by entry point key, so that resolving them (e.g. from the {@code bundle} tag) is a single
+ * lookup without building the file name. The import map is computed once (at build time when provided).
+ */
+public final class BundleMapping implements Bundle.Mapping {
+
+    private static final String SCRIPT_EXT = ".js";
+    private static final String STYLE_EXT = ".css";
+
+    private final Map<String, String> bundle;
+    private final Map<String, String> scripts;
+    private final Map<String, String> styles;
+    private final String importMap;
+    private final Map<String, List<String>> preloads;
+
+    public BundleMapping(Map<String, String> bundle) {
+        this(bundle, null, Map.of());
+    }
+
+    public BundleMapping(Map<String, String> bundle, String importMap, Map<String, List<String>> preloads) {
+        this.bundle = Map.copyOf(bundle);
+        final Map<String, String> scripts = new HashMap<>();
+        final Map<String, String> styles = new HashMap<>();
+        for (Map.Entry<String, String> e : this.bundle.entrySet()) {
+            final String name = e.getKey();
+            if (name.endsWith(SCRIPT_EXT)) {
+                scripts.put(name.substring(0, name.length() - SCRIPT_EXT.length()), e.getValue());
+            } else if (name.endsWith(STYLE_EXT)) {
+                styles.put(name.substring(0, name.length() - STYLE_EXT.length()), e.getValue());
+            }
+        }
+        this.scripts = Map.copyOf(scripts);
+        this.styles = Map.copyOf(styles);
+        this.importMap = importMap != null ? importMap : Bundle.createImportMap(this);
+        this.preloads = Map.copyOf(preloads);
+    }
+
+    @Override
+    public String get(String name) {
+        return bundle.get(name);
+    }
+
+    @Override
+    public Set<String> names() {
+        return bundle.keySet();
+    }
+
+    @Override
+    public String script(String key) {
+        return scripts.get(key);
+    }
+
+    @Override
+    public String style(String key) {
+        return styles.get(key);
+    }
+
+    @Override
+    public String importMap() {
+        return importMap;
+    }
+
+    @Override
+    public List<String> preloads(String key) {
+        return preloads.getOrDefault(key, List.of());
+    }
+}
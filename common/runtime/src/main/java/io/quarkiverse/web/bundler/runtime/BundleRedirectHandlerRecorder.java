@@ -1,7 +1,6 @@
 package io.quarkiverse.web.bundler.runtime;
 
 import java.util.Map;
-import java.util.Objects;
 
 import io.quarkus.runtime.annotations.Recorder;
 import io.vertx.core.Handler;
@@ -10,17 +9,31 @@ import io.vertx.ext.web.RoutingContext;
 @Recorder
 public class BundleRedirectHandlerRecorder {
 
-    public Handler<RoutingContext> handler(Map<String, String> bundle) {
+    /**
+     * Set on the routing context when a fixed bundle path is rerouted to the file containing the hash.
+     */
+    public static final String REROUTED_FROM_KEY = "web-bundler.bundle-redirect.rerouted-from";
+
+    /**
+     * @param redirects the public paths of the files containing the hash by fixed public path
+     * @param reroute true to serve the file containing the hash directly instead of redirecting to it
+     */
+    public Handler<RoutingContext> handler(Map<String, String> redirects, boolean reroute) {
         return event -> {
             final String path = event.normalizedPath();
-            final String entryPoint = path.substring(path.lastIndexOf('/') + 1);
-            if (!bundle.containsKey(entryPoint) || Objects.equals(bundle.get(entryPoint), path)) {
+            final String target = redirects.get(path);
+            if (target == null) {
                 event.next();
                 return;
             }
+            if (reroute) {
+                event.put(REROUTED_FROM_KEY, path);
+                event.reroute(target);
+                return;
+            }
             event.response().setStatusCode(302);
             event.response().putHeader("Cache-Control", "no-cache, no-store, must-revalidate");
-            event.response().putHeader("Location", bundle.get(entryPoint));
+            event.response().putHeader("Location", target);
             event.response().end();
         };
     }
@@ -0,0 +1,209 @@
+package io.quarkiverse.web.bundler.runtime;
+
+import java.util.Map;
+import java.util.Set;
+
+import io.netty.buffer.ByteBuf;
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Adds the caching headers and serves the precompressed variants of the generated web resources,
+ * the resources themselves are served by the Quarkus static resources handler (unless loaded in memory).
+ */
+class GeneratedWebResourcesHandler implements Handler<RoutingContext> {
+
+    private static final String ORIGINAL_PATH_KEY = "web-bundler.precompressed.original-path";
+
+    private final Set<String> precompressedPaths;
+    private final Map<String, String> etags;
+    private final Set<String> immutablePaths;
+    private final Map<String, String> earlyHints;
+    private final InMemoryWebResources inMemory;
+    private final String immutableCacheControl;
+    private final String cacheControl;
+
+    GeneratedWebResourcesHandler(Set<String> precompressedPaths, Map<String, String> etags,
+            Set<String> immutablePaths, Map<String, String> earlyHints, InMemoryWebResources inMemory,
+            String immutableCacheControl, String cacheControl) {
+        this.precompressedPaths = precompressedPaths;
+        this.etags = etags;
+        this.immutablePaths = immutablePaths;
+        this.earlyHints = earlyHints;
+        this.inMemory = inMemory;
+        this.immutableCacheControl = immutableCacheControl;
+        this.cacheControl = cacheControl;
+    }
+
+    @Override
+    public void handle(RoutingContext event) {
+        final HttpMethod method = event.request().method();
+        if (method != HttpMethod.GET && method != HttpMethod.HEAD) {
+            event.next();
+            return;
+        }
+        // Rerouting resets the response headers, they are added again on the precompressed variant request
+        final String originalPath = event.get(ORIGINAL_PATH_KEY);
+        final boolean gzip = originalPath != null;
+        final String path = gzip ? originalPath : resolvePath(event.normalizedPath());
+        final boolean precompressed = precompressedPaths.contains(path);
+        final String etag = etags.get(path);
+        // A fixed bundle path rerouted to the file with the hash changes on each build, it is not immutable
+        final boolean immutable = immutablePaths.contains(path)
+                && event.get(BundleRedirectHandlerRecorder.REROUTED_FROM_KEY) == null;
+        final String pathCacheControl = etag == null ? null
+                : immutable ? immutableCacheControl : cacheControl;
+        final String earlyHintsLink = gzip ? null : earlyHints.get(path);
+        if (!precompressed && etag == null && earlyHintsLink == null && !inMemory.contains(path)) {
+            event.next();
+            return;
+        }
+        // The representation is selected first, so that a 304 carries the validator of the cached representation
+        final boolean sendGzip = !gzip && precompressed
+                && acceptsGzip(event.request().getHeader(HttpHeaders.ACCEPT_ENCODING));
+        // Conditional requests are answered from the build-time ETags, without reading the resource
+        if (!gzip && etag != null
+                && matchesETag(event.request().getHeader(HttpHeaders.IF_NONE_MATCH), etag, sendGzip)) {
+            final HttpServerResponse response = event.response().setStatusCode(304);
+            if (sendGzip) {
+                response.headers().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            addHeaders(response, precompressed, etag(etag, sendGzip), pathCacheControl);
+            response.end();
+            return;
+        }
+        if (earlyHintsLink != null && event.request().version() != HttpVersion.HTTP_1_0) {
+            event.response().writeEarlyHints(MultiMap.caseInsensitiveMultiMap().add("Link", earlyHintsLink));
+        }
+        if (sendGzip) {
+            final ByteBuf gzipped = inMemory.get(path + GeneratedWebResourcesHandlerRecorder.GZIP_EXT);
+            if (gzipped != null) {
+                serveInMemory(event, gzipped, path, true, precompressed, etag, pathCacheControl);
+                return;
+            }
+            event.put(ORIGINAL_PATH_KEY, path);
+            event.reroute(path + GeneratedWebResourcesHandlerRecorder.GZIP_EXT);
+            return;
+        }
+        final ByteBuf content = gzip ? null : inMemory.get(path);
+        if (content != null) {
+            serveInMemory(event, content, path, false, precompressed, etag, pathCacheControl);
+            return;
+        }
+        event.addHeadersEndHandler(v -> {
+            final HttpServerResponse response = event.response();
+            if (response.getStatusCode() != 200 && response.getStatusCode() != 304) {
+                return;
+            }
+            if (gzip) {
+                response.headers()
+                        .set(HttpHeaders.CONTENT_ENCODING, "gzip")
+                        .set(HttpHeaders.CONTENT_TYPE, contentType(path));
+            }
+            addHeaders(response, precompressed, etag == null ? null : etag(etag, gzip), pathCacheControl);
+        });
+        event.next();
+    }
+
+    private String resolvePath(String path) {
+        if (path.endsWith("/") && !etags.containsKey(path) && !precompressedPaths.contains(path)
+                && !earlyHints.containsKey(path) && !inMemory.contains(path)) {
+            // Directory index
+            return path + "index.html";
+        }
+        return path;
+    }
+
+    private static void serveInMemory(RoutingContext event, ByteBuf content, String path, boolean gzip,
+            boolean precompressed, String etag, String cacheControl) {
+        final HttpServerResponse response = event.response();
+        response.headers().set(HttpHeaders.CONTENT_TYPE, contentType(path));
+        if (gzip) {
+            response.headers().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        addHeaders(response, precompressed, etag == null ? null : etag(etag, gzip), cacheControl);
+        if (event.request().method() == HttpMethod.HEAD) {
+            response.headers().set(HttpHeaders.CONTENT_LENGTH, String.valueOf(content.readableBytes()));
+            response.end();
+            return;
+        }
+        response.end(Buffer.buffer(content));
+    }
+
+    private static void addHeaders(HttpServerResponse response, boolean precompressed, String etag,
+            String cacheControl) {
+        if (precompressed) {
+            response.headers().set(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (etag != null) {
+            response.headers().set(HttpHeaders.ETAG, etag);
+        }
+        if (cacheControl != null) {
+            response.headers().set(HttpHeaders.CACHE_CONTROL, cacheControl);
+        }
+    }
+
+    /**
+     * Each representation has its own strong ETag.
+     */
+    private static String etag(String value, boolean gzip) {
+        return gzip ? "\"" + value + "-gz\"" : "\"" + value + "\"";
+    }
+
+    /**
+     * Weak comparison of the {@code If-None-Match} header with the ETag of the selected representation.
+     */
+    static boolean matchesETag(String ifNoneMatch, String etag, boolean gzip) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String value : ifNoneMatch.split(",")) {
+            String candidate = value.trim();
+            if (candidate.equals("*")) {
+                return true;
+            }
+            if (candidate.startsWith("W/")) {
+                candidate = candidate.substring(2);
+            }
+            if (candidate.equals(etag(etag, gzip))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String value : acceptEncoding.split(",")) {
+            final String[] parts = value.split(";");
+            final String coding = parts[0].trim();
+            if (coding.equalsIgnoreCase("gzip") || coding.equals("*")) {
+                for (int i = 1; i < parts.length; i++) {
+                    final String param = parts[i].trim().replace(" ", "");
+                    if (param.matches("q=0(\\.0{0,3})?")) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String contentType(String path) {
+        final String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType == null) {
+            return "application/octet-stream";
+        }
+        return contentType.startsWith("text") ? contentType + ";charset=UTF-8" : contentType;
+    }
+}
@@ -0,0 +1,39 @@
+package io.quarkiverse.web.bundler.runtime;
+
+import java.util.Map;
+import java.util.Set;
+
+import io.quarkus.runtime.ShutdownContext;
+import io.quarkus.runtime.annotations.Recorder;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.RoutingContext;
+
+@Recorder
+public class GeneratedWebResourcesHandlerRecorder {
+
+    public static final String GZIP_EXT = ".gz";
+
+    /**
+     * @param precompressedPaths the paths with a precompressed variant ({@code path.gz})
+     * @param etags the ETag values (computed at build time) by path
+     * @param immutablePaths the paths which never change (content hash in the name)
+     * @param earlyHints the Link header to send as 103 Early Hints by path
+     * @param inMemoryResources the public path of the resources to serve from memory by path
+     * @param immutableCacheControl the Cache-Control for immutable paths, {@code null} to keep the default
+     * @param cacheControl the Cache-Control for the other paths with an ETag, {@code null} to keep the default
+     */
+    public Handler<RoutingContext> handler(Set<String> precompressedPaths,
+            Map<String, String> etags,
+            Set<String> immutablePaths,
+            Map<String, String> earlyHints,
+            Map<String, String> inMemoryResources,
+            String immutableCacheControl,
+            String cacheControl,
+            ShutdownContext shutdownContext) {
+        final InMemoryWebResources inMemory = InMemoryWebResources.load(inMemoryResources, precompressedPaths);
+        shutdownContext.addShutdownTask(inMemory::release);
+        return new GeneratedWebResourcesHandler(precompressedPaths, etags, immutablePaths, earlyHints, inMemory,
+                immutableCacheControl, cacheControl);
+    }
+
+}
@@ -0,0 +1,89 @@
+package io.quarkiverse.web.bundler.runtime;
+
+import static io.quarkiverse.web.bundler.runtime.GeneratedWebResourcesHandlerRecorder.GZIP_EXT;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.logging.Logger;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+
+/**
+ * Generated web resources loaded on startup in direct buffers, shared by all the requests (read-only).
+ */
+final class InMemoryWebResources {
+
+    private static final Logger LOGGER = Logger.getLogger(InMemoryWebResources.class);
+    private static final String META_INF_RESOURCES = "META-INF/resources";
+
+    private final Map<String, ByteBuf> contents;
+    private final List<ByteBuf> buffers;
+
+    private InMemoryWebResources(Map<String, ByteBuf> contents, List<ByteBuf> buffers) {
+        this.contents = contents;
+        this.buffers = buffers;
+    }
+
+    /**
+     * @param resources the public path (without the http root path) of the resources to load by path
+     * @param precompressedPaths the paths with a precompressed variant to load too ({@code path.gz})
+     */
+    static InMemoryWebResources load(Map<String, String> resources, Set<String> precompressedPaths) {
+        final ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        final Map<String, ByteBuf> contents = new HashMap<>();
+        final List<ByteBuf> buffers = new ArrayList<>();
+        for (Map.Entry<String, String> e : resources.entrySet()) {
+            load(classLoader, contents, buffers, e.getKey(), e.getValue());
+            if (precompressedPaths.contains(e.getKey())) {
+                load(classLoader, contents, buffers, e.getKey() + GZIP_EXT, e.getValue() + GZIP_EXT);
+            }
+        }
+        LOGGER.debugf("Web Bundler loaded %d resources in memory", contents.size());
+        return new InMemoryWebResources(contents, buffers);
+    }
+
+    private static void load(ClassLoader classLoader, Map<String, ByteBuf> contents, List<ByteBuf> buffers, String path,
+            String publicPath) {
+        try (InputStream in = classLoader.getResourceAsStream(META_INF_RESOURCES + publicPath)) {
+            if (in == null) {
+                LOGGER.debugf("Web Bundler resource not found for in-memory serving: %s", publicPath);
+                return;
+            }
+            final byte[] bytes = in.readAllBytes();
+            final ByteBuf buffer = Unpooled.directBuffer(bytes.length).writeBytes(bytes);
+            buffers.add(buffer);
+            // Writing to the response releases the buffer, the loaded content must outlive all the requests
+            contents.put(path, Unpooled.unreleasableBuffer(buffer.asReadOnly()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    boolean contains(String path) {
+        return contents.containsKey(path);
+    }
+
+    /**
+     * @return an independent view of the content (own reader index) or {@code null} if not loaded
+     */
+    ByteBuf get(String path) {
+        final ByteBuf content = contents.get(path);
+        return content == null ? null : content.duplicate();
+    }
+
+    void release() {
+        contents.clear();
+        for (ByteBuf buffer : buffers) {
+            buffer.release();
+        }
+        buffers.clear();
+    }
+}
@@ -1,7 +1,7 @@
 package io.quarkiverse.web.bundler.runtime;
 
+import java.util.List;
 import java.util.Map;
-import java.util.Set;
 import java.util.function.Supplier;
 
 import io.quarkus.runtime.annotations.Recorder;
@@ -9,21 +9,12 @@ import io.quarkus.runtime.annotations.Recorder;
 @Recorder
 public class WebBundlerBuildRecorder {
 
-    public Supplier<?> createContext(Map<String, String> bundle) {
+    public Supplier<?> createContext(Map<String, String> bundle, String importMap, Map<String, List<String>> preloads) {
+        final Bundle.Mapping mapping = new BundleMapping(bundle, importMap, preloads);
         return new Supplier<Bundle.Mapping>() {
             @Override
             public Bundle.Mapping get() {
-                return new Bundle.Mapping() {
-                    @Override
-                    public String get(String name) {
-                        return bundle.get(name);
-                    }
-
-                    @Override
-                    public Set<String> names() {
-                        return bundle.keySet();
-                    }
-                };
+                return mapping;
             }
 
         };
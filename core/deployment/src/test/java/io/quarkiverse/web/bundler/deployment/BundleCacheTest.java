@@ -0,0 +1,89 @@
+package io.quarkiverse.web.bundler.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkus.deployment.util.FileUtil;
+
+public class BundleCacheTest {
+
+    private static final List<String> INPUTS = List.of("launch-mode=NORMAL", "splitting=true",
+            "entry-point=app:[app/app.js]");
+
+    @TempDir
+    Path tempDir;
+
+    Path workDir;
+    Path distDir;
+    Path asset;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        workDir = tempDir.resolve("web-bundler/prod");
+        distDir = workDir.resolve("dist");
+        asset = workDir.resolve("app/app.js");
+        write(asset, "console.log('app');");
+    }
+
+    @Test
+    void unchangedInputsRestoreTheCachedOutput() throws IOException {
+        final String digest = bundle(INPUTS);
+
+        // Next build: the previous output is removed before bundling
+        FileUtil.deleteDirectory(distDir);
+        Files.delete(workDir.resolve("app.js"));
+        assertEquals(digest, BundleCache.digest(INPUTS, workDir, List.of(asset)));
+        final Path bundleDir = BundleCache.restore(workDir, distDir, digest);
+
+        assertEquals(distDir.resolve("static/bundle"), bundleDir);
+        assertEquals("bundled app", Files.readString(distDir.resolve("static/bundle/app-ABC.js")));
+        assertEquals("import './app/app.js';", Files.readString(workDir.resolve("app.js")));
+    }
+
+    @Test
+    void changedConfigRequiresBundling() throws IOException {
+        final String digest = bundle(INPUTS);
+
+        final String changed = BundleCache.digest(List.of("launch-mode=NORMAL", "splitting=false",
+                "entry-point=app:[app/app.js]"), workDir, List.of(asset));
+        assertNotEquals(digest, changed);
+        assertNull(BundleCache.restore(workDir, distDir, changed));
+    }
+
+    @Test
+    void changedAssetRequiresBundling() throws IOException {
+        final String digest = bundle(INPUTS);
+
+        write(asset, "console.log('changed');");
+        final String changed = BundleCache.digest(INPUTS, workDir, List.of(asset));
+        assertNotEquals(digest, changed);
+        assertNull(BundleCache.restore(workDir, distDir, changed));
+    }
+
+    /**
+     * Bundles like {@link BundleProcessor} does when the output is not cached, and stores the output.
+     */
+    private String bundle(List<String> inputs) throws IOException {
+        final String digest = BundleCache.digest(inputs, workDir, List.of(asset));
+        assertNull(BundleCache.restore(workDir, distDir, digest));
+        write(workDir.resolve("app.js"), "import './app/app.js';");
+        write(distDir.resolve("static/bundle/app-ABC.js"), "bundled app");
+        BundleCache.store(workDir, distDir, distDir.resolve("static/bundle"), digest);
+        return digest;
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,102 @@
+package io.quarkiverse.web.bundler.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * The bundles are the esbuild ESM output with splitting of two entry points sharing a module (which imports a
+ * side-effect module), the first one also importing a module dynamically.
+ */
+public class BundlePreloadsTest {
+
+    static final Map<String, String> ENTRY_POINTS = Map.of("app", "app-QNUGIBSP.js", "page", "page-MMMV2YHA.js");
+
+    @TempDir
+    Path bundleDir;
+
+    @Test
+    void nonMinified() throws IOException {
+        write("app-QNUGIBSP.js", """
+                import {
+                  greet
+                } from "./chunk-RDJ4SCRY.js";
+                import "./chunk-PZ5AY32C.js";
+
+                // src/main/resources/web/app/app.js
+                greet("app");
+                import("./lazy-4IXBWFAK.js").then((m) => m.default());
+                """);
+        write("page-MMMV2YHA.js", """
+                import {
+                  greet
+                } from "./chunk-RDJ4SCRY.js";
+                import "./chunk-PZ5AY32C.js";
+
+                // src/main/resources/web/page/page.js
+                greet("page");
+                """);
+        write("chunk-RDJ4SCRY.js", """
+                import "./chunk-PZ5AY32C.js";
+
+                // src/main/resources/web/shared.js
+                function greet(name) {
+                  console.log(`hello ${name}`);
+                }
+
+                export {
+                  greet
+                };
+                """);
+        write("chunk-PZ5AY32C.js", """
+                // src/main/resources/web/polyfill.js
+                globalThis.polyfilled = true;
+                """);
+        write("lazy-4IXBWFAK.js", """
+                // src/main/resources/web/app/lazy.js
+                function lazy() {
+                  console.log("lazy");
+                }
+                export {
+                  lazy as default
+                };
+                """);
+
+        assertPreloads();
+    }
+
+    @Test
+    void minified() throws IOException {
+        write("app-QNUGIBSP.js",
+                "import{a as o}from\"./chunk-RDJ4SCRY.js\";import\"./chunk-PZ5AY32C.js\";o(\"app\");"
+                        + "import(\"./lazy-4IXBWFAK.js\").then(e=>e.default());\n");
+        write("page-MMMV2YHA.js",
+                "import{a as o}from\"./chunk-RDJ4SCRY.js\";import\"./chunk-PZ5AY32C.js\";o(\"page\");\n");
+        write("chunk-RDJ4SCRY.js", "import\"./chunk-PZ5AY32C.js\";function o(l){console.log(`hello ${l}`)}export{o as a};\n");
+        write("chunk-PZ5AY32C.js", "globalThis.polyfilled=!0;\n");
+        write("lazy-4IXBWFAK.js", "function o(){console.log(\"lazy\")}export{o as default};\n");
+
+        assertPreloads();
+    }
+
+    private void assertPreloads() throws IOException {
+        final Map<String, List<String>> preloads = BundlePreloads.compute(bundleDir, ENTRY_POINTS, "/static/bundle");
+
+        // The dynamically imported module is not preloaded, the static imports are followed transitively
+        assertEquals(Map.of(
+                "app", List.of("/static/bundle/chunk-RDJ4SCRY.js", "/static/bundle/chunk-PZ5AY32C.js"),
+                "page", List.of("/static/bundle/chunk-RDJ4SCRY.js", "/static/bundle/chunk-PZ5AY32C.js")),
+                preloads);
+    }
+
+    private void write(String name, String content) throws IOException {
+        Files.writeString(bundleDir.resolve(name), content);
+    }
+}
@@ -0,0 +1,122 @@
+package io.quarkiverse.web.bundler.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkiverse.tools.projectscanner.ScanChangedFilesBuildItem;
+
+/**
+ * The handoff of the changed files from the {@link DevWatcherProcessor.DevWatcher} to the project scanner, which keeps
+ * the sequence of the changed files of the build of its index.
+ */
+public class DevWatcherScanChangesTest {
+
+    @TempDir
+    Path dir;
+
+    DevWatcherProcessor.DevWatcher watcher;
+
+    @AfterEach
+    void close() {
+        if (watcher != null) {
+            watcher.close();
+        }
+    }
+
+    @Test
+    void indexBuiltBeforeTheWatcher() throws IOException {
+        final Path other = Files.createDirectory(dir.resolve("other"));
+        final DevWatcherProcessor.DevWatcher otherWatcher = new DevWatcherProcessor.DevWatcher(List.of(), Map.of(),
+                Set.of(other));
+        final long indexSequence;
+        try {
+            indexSequence = otherWatcher.scanChangedFiles().sequence();
+        } finally {
+            otherWatcher.close();
+        }
+
+        // Files changed between the index and the start of the watcher are missing
+        watcher = watch(Files.createDirectory(dir.resolve("watched")));
+        assertFalse(watcher.scanChangedFiles().containsChangesSince(indexSequence));
+        // The first build without a watcher provides no sequence
+        assertFalse(watcher.scanChangedFiles().containsChangesSince(-1));
+    }
+
+    @Test
+    void indexBuiltAfterTheWatcher() {
+        watcher = watch(dir);
+        final ScanChangedFilesBuildItem indexed = watcher.scanChangedFiles();
+        indexed.indexed();
+
+        assertTrue(watcher.scanChangedFiles().containsChangesSince(indexed.sequence()));
+    }
+
+    @Test
+    void watchedDirAdded() throws IOException {
+        final Path first = Files.createDirectory(dir.resolve("first"));
+        final Path second = Files.createDirectory(dir.resolve("second"));
+        watcher = watch(first);
+        final ScanChangedFilesBuildItem indexed = watcher.scanChangedFiles();
+        indexed.indexed();
+
+        // The files of the new directory changed before it was watched are missing
+        watcher.reload(List.of(), Map.of(), Set.of(first, second));
+        final ScanChangedFilesBuildItem afterReload = watcher.scanChangedFiles();
+        assertFalse(afterReload.containsChangesSince(indexed.sequence()));
+        afterReload.indexed();
+
+        assertTrue(watcher.scanChangedFiles().containsChangesSince(afterReload.sequence()));
+        // Directories already watched don't change the sequence
+        watcher.reload(List.of(), Map.of(), Set.of(first, second));
+        assertTrue(watcher.scanChangedFiles().containsChangesSince(afterReload.sequence()));
+    }
+
+    @Test
+    void changesKeptUntilIndexed() throws IOException, InterruptedException {
+        final Path first = Files.writeString(dir.resolve("first.txt"), "first");
+        final Path second = Files.writeString(dir.resolve("second.txt"), "second");
+        watcher = watch(dir);
+
+        Files.writeString(first, "first modified");
+        awaitChange(first);
+
+        // The build is aborted before the index is kept, the next one gets the changes again
+        watcher.scanChangedFiles();
+        final ScanChangedFilesBuildItem build = watcher.scanChangedFiles();
+        assertTrue(build.files().contains(first));
+
+        // Changed while the index is built, after the files were collected
+        Files.writeString(second, "second modified");
+        awaitChange(second);
+        build.indexed();
+
+        final List<Path> remaining = List.copyOf(watcher.scanChangedFiles().files());
+        assertTrue(remaining.contains(second), remaining::toString);
+    }
+
+    private static DevWatcherProcessor.DevWatcher watch(Path dir) {
+        return new DevWatcherProcessor.DevWatcher(List.of(), Map.of(), Set.of(dir));
+    }
+
+    private void awaitChange(Path file) throws InterruptedException {
+        final long timeout = System.currentTimeMillis() + 10_000;
+        while (!watcher.scanChangedFiles().files().contains(file)) {
+            if (System.currentTimeMillis() > timeout) {
+                fail("No change reported for " + file);
+            }
+            Thread.sleep(50);
+        }
+    }
+}
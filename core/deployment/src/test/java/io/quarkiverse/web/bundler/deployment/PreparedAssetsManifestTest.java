@@ -0,0 +1,64 @@
+package io.quarkiverse.web.bundler.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.quarkiverse.tools.projectscanner.LocalProjectFile;
+import io.quarkiverse.tools.projectscanner.ProjectFile;
+
+public class PreparedAssetsManifestTest {
+
+    private static final FileTime PREVIOUS_BUILD_TIME = FileTime.fromMillis(1_000_000_000L);
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void secondBuildOnlyWritesChangedAssets() throws IOException {
+        final Path srcDir = tempDir.resolve("src");
+        final Path workDir = tempDir.resolve("work");
+        write(srcDir.resolve("web/app.js"), "app");
+        write(srcDir.resolve("web/style.css"), "style");
+        write(srcDir.resolve("web/removed.js"), "removed");
+
+        build(srcDir, workDir, List.of("web/app.js", "web/style.css", "web/removed.js"));
+        for (String asset : List.of("web/app.js", "web/style.css", "web/removed.js")) {
+            Files.setLastModifiedTime(workDir.resolve(asset), PREVIOUS_BUILD_TIME);
+        }
+
+        write(srcDir.resolve("web/style.css"), "changed style");
+        build(srcDir, workDir, List.of("web/app.js", "web/style.css"));
+
+        assertEquals(PREVIOUS_BUILD_TIME, Files.getLastModifiedTime(workDir.resolve("web/app.js")));
+        assertNotEquals(PREVIOUS_BUILD_TIME, Files.getLastModifiedTime(workDir.resolve("web/style.css")));
+        assertEquals("changed style", Files.readString(workDir.resolve("web/style.css")));
+        assertFalse(Files.exists(workDir.resolve("web/removed.js")));
+    }
+
+    private static void build(Path srcDir, Path workDir, List<String> assets) throws IOException {
+        final PreparedAssetsManifest manifest = PreparedAssetsManifest.load(workDir);
+        for (String asset : assets) {
+            final Path targetPath = workDir.resolve(asset);
+            Files.createDirectories(targetPath.getParent());
+            manifest.prepare(new LocalProjectFile(asset, asset, srcDir.resolve(asset), null,
+                    ProjectFile.Origin.LOCAL_PROJECT_FILE, null, StandardCharsets.UTF_8), targetPath);
+        }
+        manifest.save();
+    }
+
+    private static void write(Path file, String content) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, content);
+    }
+}
@@ -0,0 +1,66 @@
+package io.quarkiverse.web.bundler.deployment;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import io.quarkiverse.web.bundler.runtime.Bundle;
+import io.quarkiverse.web.bundler.runtime.BundleMapping;
+import io.quarkus.qute.Engine;
+import io.quarkus.qute.NamespaceResolver;
+import io.quarkus.qute.ReflectionValueResolver;
+
+public class QuteTemplateEarlyHintsTest {
+
+    static final Map<String, String> BUNDLE = Map.of(
+            "app.js", "/static/bundle/app-AAA.js",
+            "app.css", "/static/bundle/app-BBB.css",
+            "page.js", "/static/bundle/page-CCC.js");
+    static final Map<String, List<String>> PRELOADS = Map.of("app", List.of("/static/bundle/chunk-DDD.js"));
+
+    @Test
+    void lookedUpFiles() {
+        // Single-quoted and unquoted attributes
+        assertEquals("</static/bundle/app-AAA.js>; rel=modulepreload, "
+                + "</static/bundle/chunk-DDD.js>; rel=modulepreload, "
+                + "</static/bundle/app-BBB.css>; rel=preload; as=style",
+                earlyHintsLink("<link rel=stylesheet href={inject:bundle.style('app')}>\n"
+                        + "<script type='module' src='{inject:bundle.script('app')}'></script>"));
+    }
+
+    @Test
+    void resolvedFiles() {
+        assertEquals("</static/bundle/page-CCC.js>; rel=modulepreload",
+                earlyHintsLink("<script type=\"module\" src=\"{inject:bundle.resolve('page.js')}\"></script>"));
+    }
+
+    @Test
+    void pathsInText() {
+        // The paths are not looked up from the bundle, they don't need to be preloaded
+        assertNull(earlyHintsLink("<p>\"/static/bundle/page-CCC.js\"</p>\n"
+                + "<script>const page = \"/static/bundle/app-AAA.js\";</script>"));
+    }
+
+    @Test
+    void missingFiles() {
+        assertNull(earlyHintsLink("{inject:bundle.script('unknown')}{inject:bundle.style('page')}"));
+    }
+
+    private static String earlyHintsLink(String template) {
+        final Bundle.Mapping mapping = QuteTemplateDependencies.tracking(new BundleMapping(BUNDLE, null, PRELOADS));
+        final Engine engine = Engine.builder()
+                .addDefaults()
+                .addNamespaceResolver(NamespaceResolver.builder("inject")
+                        .resolve(c -> c.getName().equals("bundle") ? new Bundle(mapping) : null)
+                        .build())
+                .addValueResolver(new ReflectionValueResolver())
+                .build();
+        final QuteTemplateDependencies.Rendered rendered = QuteTemplateDependencies.render(template,
+                () -> engine.parse(template).render());
+        return QuteTemplateWebAssetsProcessor.earlyHintsLink(rendered.inputs(), PRELOADS);
+    }
+}
@@ -0,0 +1,54 @@
+package io.quarkiverse.web.bundler.test;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.web.bundler.runtime.Bundle;
+import io.quarkus.maven.dependency.ArtifactDependency;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.response.Response;
+
+public class WebBundlerBundleRerouteTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.web-bundler.bundle-redirect-reroute", "true")
+            .setForcedDependencies(
+                    List.of(new ArtifactDependency("org.mvnpm", "jquery", null, "jar", "3.7.0", "provided", false)))
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("web"));
+
+    @Inject
+    Bundle bundle;
+
+    @Test
+    void testBundleReroute() {
+        final Response hashed = RestAssured.given()
+                .basePath("")
+                .get(bundle.script("app"))
+                .then()
+                .statusCode(200)
+                .extract().response();
+
+        // The fixed path is served directly, its content changes on each build so it is not immutable
+        RestAssured.given()
+                .redirects().follow(false)
+                .get("/static/bundle/app.js")
+                .then()
+                .statusCode(200)
+                .header("Location", Matchers.nullValue())
+                .header("ETag", hashed.header("ETag"))
+                .header("Cache-Control", Matchers.not(Matchers.containsString("max-age=31536000")))
+                .body(Matchers.containsString("hello world in TEST mode"))
+                .body(Matchers.equalTo(hashed.asString()));
+    }
+}
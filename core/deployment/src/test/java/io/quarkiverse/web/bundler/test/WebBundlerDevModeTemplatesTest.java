@@ -0,0 +1,77 @@
+package io.quarkiverse.web.bundler.test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.util.List;
+import java.util.logging.LogRecord;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusDevModeTest;
+import io.restassured.RestAssured;
+
+public class WebBundlerDevModeTemplatesTest {
+
+    @RegisterExtension
+    static final QuarkusDevModeTest test = new QuarkusDevModeTest()
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("dev", "web")
+                    .addAsResource(new StringAsset("static:hello"), "web/static-page.html")
+                    .addAsResource(new StringAsset("config:{config:property('template.message')}"),
+                            "web/config-page.html")
+                    .addAsResource(new StringAsset("{#bundle tag=\"script\" /}"), "web/bundle-page.html")
+                    .addAsResource("application-dev-templates.properties", "application.properties"))
+            .setLogRecordPredicate(r -> r.getLoggerName().startsWith("io.quarkiverse.web.bundler"));
+
+    @Test
+    public void test() {
+        // Reset basePath since QuarkusDevModeTest may set it from quarkus.http.root-path
+        RestAssured.basePath = "";
+        get("/foo/bar/static-page.html", "static:hello");
+        get("/foo/bar/config-page.html", "config:hello");
+        final String bundlePage = get("/foo/bar/bundle-page.html", "<script type=\"module\"");
+        assertRendered(4);
+
+        // Only the modified template is rendered again
+        test.modifyResourceFile("web/static-page.html", s -> s.replace("static:", "static modified:"));
+        get("/foo/bar/static-page.html", "static modified:hello");
+        assertRendered(1);
+
+        // The script file name contains a new hash, only the template using the bundle is rendered again
+        test.modifyResourceFile("web/app.js", s -> s.replace("Hello World!", "Hello World! Modified!"));
+        assertNotEquals(bundlePage, get("/foo/bar/bundle-page.html", "<script type=\"module\""));
+        assertRendered(1);
+
+        // Only the template reading the property is rendered again
+        test.modifyResourceFile("application.properties", s -> s.replace("template.message=hello",
+                "template.message=changed"));
+        get("/foo/bar/config-page.html", "config:changed");
+        get("/foo/bar/static-page.html", "static modified:hello");
+        assertRendered(1);
+    }
+
+    private static String get(String path, String content) {
+        return RestAssured.given()
+                .get(path)
+                .then()
+                .statusCode(200)
+                .body(Matchers.containsString(content))
+                .extract().asString();
+    }
+
+    /**
+     * Checks the last "Web Bundler rendered %d of %d build-time templates" record
+     */
+    private static void assertRendered(int rendered) {
+        final List<LogRecord> records = test.getLogRecords().stream()
+                .filter(r -> r.getMessage() != null && r.getMessage().contains("build-time templates"))
+                .toList();
+        assertArrayEquals(new Object[] { rendered, 4 }, records.get(records.size() - 1).getParameters());
+    }
+}
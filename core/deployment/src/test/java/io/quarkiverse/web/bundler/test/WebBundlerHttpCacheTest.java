@@ -0,0 +1,74 @@
+package io.quarkiverse.web.bundler.test;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.web.bundler.runtime.Bundle;
+import io.quarkus.maven.dependency.ArtifactDependency;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class WebBundlerHttpCacheTest {
+
+    static final String IMMUTABLE = "public, max-age=31536000, immutable";
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .withConfigurationResource("application.properties")
+            .setForcedDependencies(
+                    List.of(new ArtifactDependency("org.mvnpm", "jquery", null, "jar", "3.7.0", "provided", false)))
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("web"));
+
+    @Inject
+    Bundle bundle;
+
+    @Test
+    void testHashedBundle() {
+        final String etag = RestAssured.given()
+                .basePath("")
+                .get(bundle.script("app"))
+                .then()
+                .statusCode(200)
+                .header("Cache-Control", IMMUTABLE)
+                .header("ETag", Matchers.notNullValue())
+                .extract().header("ETag");
+
+        RestAssured.given()
+                .basePath("")
+                .header("If-None-Match", etag)
+                .get(bundle.script("app"))
+                .then()
+                .statusCode(304)
+                .header("Cache-Control", IMMUTABLE)
+                .header("ETag", etag);
+    }
+
+    @Test
+    void testUnhashedResource() {
+        // Revalidated on each use by default
+        final String etag = RestAssured.given()
+                .get("/static/hello.txt")
+                .then()
+                .statusCode(200)
+                .header("Cache-Control", "no-cache")
+                .header("ETag", Matchers.notNullValue())
+                .body(Matchers.equalTo("Hello World!"))
+                .extract().header("ETag");
+
+        RestAssured.given()
+                .header("If-None-Match", etag)
+                .get("/static/hello.txt")
+                .then()
+                .statusCode(304)
+                .header("Cache-Control", "no-cache")
+                .header("ETag", etag);
+    }
+}
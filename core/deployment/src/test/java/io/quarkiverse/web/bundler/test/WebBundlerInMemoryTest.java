@@ -0,0 +1,59 @@
+package io.quarkiverse.web.bundler.test;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.web.bundler.runtime.Bundle;
+import io.quarkus.maven.dependency.ArtifactDependency;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class WebBundlerInMemoryTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.web-bundler.in-memory.enabled", "true")
+            .overrideConfigKey("quarkus.web-bundler.in-memory.max-file-size", "1048576")
+            .overrideConfigKey("quarkus.web-bundler.precompression.enabled", "true")
+            .setForcedDependencies(
+                    List.of(new ArtifactDependency("org.mvnpm", "jquery", null, "jar", "3.7.0", "provided", false)))
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("web"));
+
+    @Inject
+    Bundle bundle;
+
+    @Test
+    public void test() {
+        RestAssured.given()
+                .basePath("")
+                .get(bundle.script("app"))
+                .then()
+                .statusCode(200)
+                .header("Content-Type", Matchers.containsString("javascript"))
+                .header("ETag", Matchers.notNullValue())
+                .body(Matchers.containsString("hello world in TEST mode"));
+        RestAssured.given()
+                .basePath("")
+                .header("Accept-Encoding", "gzip")
+                .get(bundle.script("app"))
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", Matchers.equalToIgnoringCase("accept-encoding"))
+                .body(Matchers.containsString("hello world in TEST mode"));
+        RestAssured.given()
+                .get("/static/hello.txt")
+                .then()
+                .statusCode(200)
+                .body(Matchers.equalTo("Hello World!"));
+    }
+}
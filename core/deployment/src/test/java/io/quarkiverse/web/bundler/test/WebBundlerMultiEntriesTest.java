@@ -1,6 +1,7 @@
 package io.quarkiverse.web.bundler.test;
 
 import java.util.List;
+import java.util.Set;
 
 import jakarta.inject.Inject;
 
@@ -18,6 +19,9 @@ import io.restassured.RestAssured;
 
 public class WebBundlerMultiEntriesTest {
 
+    static final Set<String> BUNDLE_NAMES = Set.of("index.js", "index.js.map", "index.css", "index.css.map",
+            "page1.js", "page1.js.map", "page1.css", "page1.css.map");
+
     @RegisterExtension
     static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
             .withConfigurationResource("application-multi.properties")
@@ -31,7 +35,15 @@ public class WebBundlerMultiEntriesTest {
 
     @Test
     public void test() {
+        assertBundled(bundle);
+    }
+
+    @Test
+    void testMapping() {
+        Assertions.assertEquals(BUNDLE_NAMES, bundle.mapping().names());
+    }
 
+    static void assertBundled(Bundle bundle) {
         RestAssured.given()
                 .get("/")
                 .then()
@@ -0,0 +1,44 @@
+package io.quarkiverse.web.bundler.test;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.web.bundler.runtime.Bundle;
+import io.quarkus.maven.dependency.ArtifactDependency;
+import io.quarkus.test.QuarkusUnitTest;
+
+/**
+ * Same as {@link WebBundlerMultiEntriesTest} with each entry point bundled in its own esbuild run.
+ */
+public class WebBundlerParallelTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .withConfigurationResource("application-multi.properties")
+            .overrideConfigKey("quarkus.web-bundler.bundling.parallel", "true")
+            .overrideConfigKey("quarkus.web-bundler.build-threads", "4")
+            .setForcedDependencies(
+                    List.of(new ArtifactDependency("org.mvnpm", "jquery", null, "jar", "3.7.0", "provided", false)))
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("multi", "web"));
+
+    @Inject
+    Bundle bundle;
+
+    @Test
+    public void test() {
+        WebBundlerMultiEntriesTest.assertBundled(bundle);
+    }
+
+    @Test
+    void testMapping() {
+        Assertions.assertEquals(WebBundlerMultiEntriesTest.BUNDLE_NAMES, bundle.mapping().names());
+    }
+}
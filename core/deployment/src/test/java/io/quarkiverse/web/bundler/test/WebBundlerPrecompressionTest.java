@@ -0,0 +1,95 @@
+package io.quarkiverse.web.bundler.test;
+
+import java.util.List;
+
+import jakarta.inject.Inject;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkiverse.web.bundler.runtime.Bundle;
+import io.quarkus.maven.dependency.ArtifactDependency;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+
+public class WebBundlerPrecompressionTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.web-bundler.precompression.enabled", "true")
+            .overrideConfigKey("quarkus.web-bundler.precompression.min-size", "0")
+            .setForcedDependencies(
+                    List.of(new ArtifactDependency("org.mvnpm", "jquery", null, "jar", "3.7.0", "provided", false)))
+            .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class)
+                    .addAsResource("web"));
+
+    @Inject
+    Bundle bundle;
+
+    @Test
+    void testGzip() {
+        RestAssured.given()
+                .basePath("")
+                .header("Accept-Encoding", "gzip")
+                .get(bundle.script("app"))
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", Matchers.equalToIgnoringCase("accept-encoding"))
+                .body(Matchers.containsString("hello world in TEST mode"));
+    }
+
+    @Test
+    void testIdentity() {
+        // No content decoders, so no Accept-Encoding header is sent
+        RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .basePath("")
+                .get(bundle.script("app"))
+                .then()
+                .statusCode(200)
+                .header("Content-Encoding", Matchers.nullValue())
+                .header("Vary", Matchers.equalToIgnoringCase("accept-encoding"))
+                .body(Matchers.containsString("hello world in TEST mode"));
+    }
+
+    @Test
+    void testGzipRevalidation() {
+        final String etag = RestAssured.given()
+                .basePath("")
+                .header("Accept-Encoding", "gzip")
+                .get(bundle.script("app"))
+                .then()
+                .statusCode(200)
+                .header("ETag", Matchers.endsWith("-gz\""))
+                .extract().header("ETag");
+
+        // The 304 carries the validator of the stored gzip response, so that it can be freshened
+        RestAssured.given()
+                .basePath("")
+                .header("Accept-Encoding", "gzip")
+                .header("If-None-Match", etag)
+                .get(bundle.script("app"))
+                .then()
+                .statusCode(304)
+                .header("ETag", etag)
+                .header("Content-Encoding", "gzip")
+                .header("Vary", Matchers.equalToIgnoringCase("accept-encoding"));
+
+        // The gzip validator does not match the identity representation
+        RestAssured.given()
+                .config(RestAssured.config().decoderConfig(DecoderConfig.decoderConfig().noContentDecoders()))
+                .basePath("")
+                .header("If-None-Match", etag)
+                .get(bundle.script("app"))
+                .then()
+                .statusCode(200)
+                .header("ETag", Matchers.not(etag))
+                .header("Content-Encoding", Matchers.nullValue());
+    }
+}
@@ -0,0 +1,53 @@
+package io.quarkiverse.web.bundler.test;
+
+import java.util.List;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.maven.dependency.ArtifactDependency;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class WebBundlerTemplatesTest {
+
+    // More templates than build threads, so that they are rendered concurrently and complete out of order
+    static final int THREADS = 4;
+    static final int PAGES = 3 * THREADS;
+
+    @RegisterExtension
+    static final QuarkusUnitTest unitTest = new QuarkusUnitTest()
+            .withConfigurationResource("application.properties")
+            .overrideConfigKey("quarkus.web-bundler.build-threads", String.valueOf(THREADS))
+            .setForcedDependencies(
+                    List.of(new ArtifactDependency("org.mvnpm", "jquery", null, "jar", "3.7.0", "provided", false)))
+            .setArchiveProducer(() -> {
+                final JavaArchive archive = ShrinkWrap.create(JavaArchive.class)
+                        .addAsResource("web");
+                for (int i = 0; i < PAGES; i++) {
+                    archive.addAsResource(new StringAsset(page(i)), "web/page-" + i + ".html");
+                }
+                return archive;
+            });
+
+    static String page(int i) {
+        // The longest pages take the longest to render
+        return "page:" + i + " mode:{build:launchMode} " + "héllo wörld ✓ 日本語 ".repeat(i * 100);
+    }
+
+    @Test
+    void testTemplates() {
+        for (int i = 0; i < PAGES; i++) {
+            RestAssured.given()
+                    .get("/page-" + i + ".html")
+                    .then()
+                    .statusCode(200)
+                    .body(Matchers.startsWith("page:" + i + " mode:TEST "))
+                    .body(Matchers.equalTo(page(i).replace("{build:launchMode}", "TEST")));
+        }
+    }
+}
@@ -59,6 +59,22 @@ public class WebBundlerTest {
 
     }
 
+    @Test
+    void testBundleRedirect() {
+        RestAssured.given()
+                .redirects().follow(false)
+                .get("/static/bundle/app.js")
+                .then()
+                .statusCode(302)
+                .header("Location", bundle.script("app"));
+        RestAssured.given()
+                .redirects().follow(false)
+                .basePath("")
+                .get(bundle.script("app"))
+                .then()
+                .statusCode(200);
+    }
+
     @Test
     void testSourceMap() {
         final String jsMap = bundle.resolve("app.js.map");
@@ -4,6 +4,7 @@ import jakarta.inject.Inject;
 import jakarta.ws.rs.core.UriBuilder;
 
 import org.assertj.core.api.Assertions;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 
 import io.quarkiverse.web.bundler.runtime.Bundle;
@@ -32,6 +33,14 @@ public class BundleTest {
                         "app.js.map",
                         "app.js");
 
+        Assertions.assertThat(bundle.script("app")).isEqualTo(bundle.resolve("app.js"));
+        Assertions.assertThat(bundle.style("page-1")).isEqualTo(bundle.resolve("page-1.css"));
+        Assertions.assertThat(bundle.script("unknown")).isNull();
+        Assertions.assertThat(bundle.preloads("app")).containsExactly(bundle.resolve("chunk.js"));
+        Assertions.assertThat(bundle.importMap())
+                .isEqualTo(Bundle.createImportMap(bundle.mapping()))
+                .contains("\"app\":\"" + bundle.script("app") + "\"");
+
         for (String name : bundle.mapping().names()) {
             RestAssured.given()
                     .basePath("")
@@ -41,4 +50,23 @@ public class BundleTest {
         }
     }
 
+    @Test
+    void testImmutableCacheHeaders() {
+        final String etag = RestAssured.given()
+                .basePath("")
+                .get(UriBuilder.fromUri(bundle.script("app")).build())
+                .then()
+                .statusCode(200)
+                .header("Cache-Control", "public, max-age=31536000, immutable")
+                .header("ETag", Matchers.notNullValue())
+                .extract().header("ETag");
+
+        RestAssured.given()
+                .basePath("")
+                .header("If-None-Match", etag)
+                .get(UriBuilder.fromUri(bundle.script("app")).build())
+                .then()
+                .statusCode(304);
+    }
+
 }
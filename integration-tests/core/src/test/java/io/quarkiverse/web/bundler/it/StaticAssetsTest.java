@@ -2,6 +2,7 @@ package io.quarkiverse.web.bundler.it;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -53,6 +54,23 @@ public class StaticAssetsTest {
                 .body(is(asString("/web/static/hello.txt")));
     }
 
+    @Test
+    void testHtmlTemplateETag() {
+        final String etag = RestAssured.get(test)
+                .then()
+                .statusCode(200)
+                .header("Cache-Control", "no-cache")
+                .header("ETag", notNullValue())
+                .extract().header("ETag");
+
+        RestAssured.given()
+                .header("If-None-Match", etag)
+                .get(test)
+                .then()
+                .statusCode(304)
+                .header("ETag", etag);
+    }
+
     @Test
     void testHtmlTemplate() throws IOException {
         RestAssured.get(test)
@@ -1,9 +1,13 @@
 package io.quarkiverse.web.bundler.it;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+
 import jakarta.inject.Inject;
 import jakarta.ws.rs.core.UriBuilder;
 
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 import io.quarkiverse.web.bundler.runtime.Bundle;
@@ -26,4 +30,10 @@ public class TailwindCSSBundleTest {
                 .body(Matchers.containsString(".xl\\:no-underline"));
     }
 
+    @Test
+    void testBundlingNotCached() {
+        // The plugin has no cache key, the bundling output is never cached even with the cache enabled
+        Assertions.assertFalse(Files.exists(Path.of("target/web-bundler/.cache")));
+    }
+
 }
@@ -20,7 +20,8 @@ public class WebBundlerSvelteProcessor {
         if (!projectRoot.exists()) {
             return null;
         }
-        return new WebBundlerEsbuildPluginBuiltItem(new EsBuildPluginSvelte(config.customElement()));
+        return new WebBundlerEsbuildPluginBuiltItem(new EsBuildPluginSvelte(config.customElement()),
+                "svelte:custom-element=" + config.customElement());
     }
 
 }
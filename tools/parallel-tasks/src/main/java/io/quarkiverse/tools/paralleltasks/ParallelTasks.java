@@ -0,0 +1,78 @@
+package io.quarkiverse.tools.paralleltasks;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs independent build tasks concurrently, the results are in the tasks order whatever the completion order.
+ */
+public final class ParallelTasks {
+
+    private ParallelTasks() {
+    }
+
+    @FunctionalInterface
+    public interface Task<T> {
+        T run() throws IOException;
+    }
+
+    /**
+     * Runs the tasks on a pool of at most {@code maxThreads} daemon threads named {@code <name>-<n>}.
+     * With a single thread or a single task, the tasks run sequentially in the calling thread.
+     * <p>
+     * The first failure (in the tasks order) is rethrown as is, the remaining tasks are cancelled.
+     *
+     * @param name the name of the tasks, used for the threads and the errors
+     * @param maxThreads the maximum number of threads
+     * @param tasks the tasks to run
+     * @return the results of the tasks, in the tasks order
+     */
+    public static <T> List<T> run(String name, int maxThreads, List<? extends Task<T>> tasks) throws IOException {
+        final List<T> results = new ArrayList<>(tasks.size());
+        if (maxThreads <= 1 || tasks.size() <= 1) {
+            for (Task<T> task : tasks) {
+                results.add(task.run());
+            }
+            return results;
+        }
+        final AtomicInteger threadCount = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(Math.min(maxThreads, tasks.size()), r -> {
+            final Thread thread = new Thread(r, name + "-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            final List<Future<T>> futures = new ArrayList<>(tasks.size());
+            for (Task<T> task : tasks) {
+                futures.add(executor.submit(task::run));
+            }
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while running the " + name + " tasks", e);
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException ioException) {
+                throw ioException;
+            }
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package io.quarkiverse.tools.paralleltasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.Test;
+
+class ParallelTasksTest {
+
+    @Test
+    void resultsInTasksOrder() throws IOException {
+        final Set<String> threads = ConcurrentHashMap.newKeySet();
+        final List<ParallelTasks.Task<Integer>> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            final int value = i;
+            tasks.add(() -> {
+                threads.add(Thread.currentThread().getName());
+                // The first tasks complete last
+                sleep(5L * (8 - value));
+                return value;
+            });
+        }
+
+        assertThat(ParallelTasks.run("test", 4, tasks)).containsExactly(0, 1, 2, 3, 4, 5, 6, 7);
+        assertThat(threads).isNotEmpty().allMatch(name -> name.matches("test-[1-4]"));
+    }
+
+    @Test
+    void sequentialWithOneThread() throws IOException {
+        final String caller = Thread.currentThread().getName();
+        final List<ParallelTasks.Task<String>> tasks = List.of(
+                () -> Thread.currentThread().getName(),
+                () -> Thread.currentThread().getName());
+
+        assertThat(ParallelTasks.run("test", 1, tasks)).containsExactly(caller, caller);
+    }
+
+    @Test
+    void rethrowsFailures() {
+        final List<ParallelTasks.Task<String>> ioFailure = List.of(() -> "ok", () -> {
+            throw new IOException("io");
+        });
+        assertThatThrownBy(() -> ParallelTasks.run("test", 2, ioFailure))
+                .isInstanceOf(IOException.class)
+                .hasMessage("io");
+
+        final List<ParallelTasks.Task<String>> runtimeFailure = List.of(() -> "ok", () -> {
+            throw new IllegalArgumentException("runtime");
+        });
+        assertThatThrownBy(() -> ParallelTasks.run("test", 2, runtimeFailure))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("runtime");
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package io.quarkiverse.tools.projectscanner;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
@@ -47,6 +49,21 @@ public abstract class AbstractProjectFile implements ProjectFile {
         return lazyContent.get();
     }
 
+    /**
+     * Whether the content was already loaded in memory.
+     */
+    protected boolean isContentLoaded() {
+        return lazyContent.isSet();
+    }
+
+    @Override
+    public InputStream openStream() throws IOException {
+        if (isContentLoaded() || file == null) {
+            return new ByteArrayInputStream(content());
+        }
+        return Files.newInputStream(file);
+    }
+
     @Override
     public Path file() {
         return file;
@@ -1,7 +1,16 @@
 package io.quarkiverse.tools.projectscanner;
 
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
 import java.nio.charset.Charset;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.util.Objects;
 
 /**
@@ -13,6 +22,7 @@ import java.util.Objects;
 public final class ClasspathProjectFile extends AbstractProjectFile {
 
     private final String resourcePath;
+    private final boolean inMemory;
 
     public ClasspathProjectFile(String indexPath, String scopedPath, Path file, Origin origin, String resourcePath,
             Charset charset) {
@@ -22,6 +32,7 @@ public final class ClasspathProjectFile extends AbstractProjectFile {
             throw new IllegalArgumentException("file must not be on a local filesystem for a classpath project file: " + file);
         }
         this.resourcePath = Objects.requireNonNull(resourcePath, "resourcePath must not be null");
+        this.inMemory = false;
     }
 
     public ClasspathProjectFile(String indexPath, String scopedPath, Path file, Origin origin, String resourcePath,
@@ -31,6 +42,7 @@ public final class ClasspathProjectFile extends AbstractProjectFile {
             throw new IllegalArgumentException("file must not be on a local filesystem for a classpath project file: " + file);
         }
         this.resourcePath = Objects.requireNonNull(resourcePath, "resourcePath must not be null");
+        this.inMemory = true;
     }
 
     @Override
@@ -42,6 +54,75 @@ public final class ClasspathProjectFile extends AbstractProjectFile {
         return resourcePath;
     }
 
+    /**
+     * Streams the entry from its archive, without loading the content in memory.
+     * In-memory files and files without an archive entry are streamed from their content.
+     */
+    @Override
+    public InputStream openStream() throws IOException {
+        if (inMemory || file() == null) {
+            return new ByteArrayInputStream(content());
+        }
+        return openArchiveEntry(file());
+    }
+
+    /**
+     * Copies the entry from its archive to the target, without loading the content in memory.
+     */
+    @Override
+    public void transferTo(Path target) throws IOException {
+        if (inMemory) {
+            Files.deleteIfExists(target);
+            Files.write(target, content());
+            return;
+        }
+        if (file() == null) {
+            ProjectScanner.transferRuntimeResource(resourcePath, target);
+            return;
+        }
+        try (InputStream in = openArchiveEntry(file())) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * The archive file system is usually closed once the archive is indexed, in which case the archive is opened
+     * again until the returned stream is closed.
+     */
+    private static InputStream openArchiveEntry(Path entry) throws IOException {
+        if (entry.getFileSystem().isOpen()) {
+            return Files.newInputStream(entry);
+        }
+        final FileSystem archive = FileSystems.newFileSystem(archivePath(entry));
+        try {
+            return new FilterInputStream(Files.newInputStream(archive.getPath(entry.toString()))) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        archive.close();
+                    }
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            archive.close();
+            throw e;
+        }
+    }
+
+    /**
+     * The archive containing the entry, from the entry {@code jar:<archive uri>!/<entry>} URI.
+     */
+    private static Path archivePath(Path entry) {
+        final String uri = entry.toUri().getRawSchemeSpecificPart();
+        final int separator = uri.indexOf("!/");
+        if (separator < 0) {
+            throw new IllegalStateException("Unable to locate the archive of the classpath project file: " + entry);
+        }
+        return Path.of(URI.create(uri.substring(0, separator)));
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass())
@@ -1,7 +1,11 @@
 package io.quarkiverse.tools.projectscanner;
 
+import java.io.IOException;
+import java.nio.channels.FileChannel;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Objects;
 
 /**
@@ -38,6 +42,23 @@ public final class LocalProjectFile extends AbstractProjectFile {
         return resourcePath;
     }
 
+    /**
+     * Copies the file using {@link FileChannel#transferFrom}, the content doesn't go through the heap.
+     * The target is deleted first so that a symbolic link at the target location is never followed.
+     */
+    @Override
+    public void transferTo(Path target) throws IOException {
+        Files.deleteIfExists(target);
+        try (FileChannel in = FileChannel.open(file(), StandardOpenOption.READ);
+                FileChannel out = FileChannel.open(target, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+            final long size = in.size();
+            long position = 0;
+            while (position < size) {
+                position += out.transferFrom(in, position, size - position);
+            }
+        }
+    }
+
     @Override
     public boolean equals(Object o) {
         if (o == null || getClass() != o.getClass())
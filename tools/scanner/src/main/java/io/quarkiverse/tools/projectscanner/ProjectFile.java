@@ -1,7 +1,12 @@
 package io.quarkiverse.tools.projectscanner;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.nio.charset.Charset;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 
 public interface ProjectFile {
 
@@ -45,6 +50,24 @@ public interface ProjectFile {
      */
     byte[] content();
 
+    /**
+     * Opens a stream on the raw content of the file.
+     * Local files are streamed from the filesystem without loading the content in memory.
+     */
+    default InputStream openStream() throws IOException {
+        return new ByteArrayInputStream(content());
+    }
+
+    /**
+     * Writes the raw content of the file to the target path, replacing it if it exists.
+     * Unlike {@link #content()}, the content is not kept in memory.
+     */
+    default void transferTo(Path target) throws IOException {
+        try (InputStream in = openStream()) {
+            Files.copy(in, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
     /**
      * The charset used to decode this file's content into text.
      */
@@ -7,27 +7,36 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
-import java.nio.file.FileSystems;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.nio.file.PathMatcher;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
-import java.util.HashMap;
+import java.util.EnumSet;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Stream;
+import java.util.function.BiConsumer;
 
 import org.jboss.logging.Logger;
 
+import io.quarkiverse.tools.paralleltasks.ParallelTasks;
 import io.quarkiverse.tools.projectscanner.util.ProjectUtils;
+import io.quarkiverse.tools.stringpaths.StringPathMatcher;
 import io.quarkus.bootstrap.classloading.QuarkusClassLoader;
 import io.quarkus.deployment.ApplicationArchive;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
@@ -37,6 +46,7 @@ import io.quarkus.maven.dependency.ArtifactKey;
 import io.quarkus.maven.dependency.DependencyFlags;
 import io.quarkus.maven.dependency.ResolvedDependency;
 import io.quarkus.paths.OpenPathTree;
+import io.quarkus.paths.PathCollection;
 import io.quarkus.paths.PathTree;
 
 /**
@@ -51,32 +61,62 @@ public final class ProjectScanner {
     private final Map<String, Path> projectLocalDirsByName;
 
     // The pre-built sorted index of all assets
+    // Files under a directory are contiguous, scoped lookups are a range found by binary search
     private final List<IndexedFile> indexedAssets;
 
-    // Directory index: maps each directory prefix (with trailing /) to the list of files under it
-    // File references are shared with indexedAssets (no object duplication)
-    private final Map<String, List<IndexedFile>> dirIndex;
-
     private final Charset charset;
 
+    // What is needed to update the index from file changes (see #update)
+    private final List<IndexedDir> indexedDirs;
+    private final Map<Path, Set<String>> srcResourcesFiles;
+    private final List<ScanDeclarationBuildItem> declarations;
+    private final List<StringPathMatcher> ignoredMatchers;
+
+    // Memoized query results, ScanQuery is an immutable record and the index never changes
+    // Only the index entries are kept, the project files (and their lazily loaded content) are created for each query
+    private final Map<QueryKey, List<ScopedFile>> queryCache = new ConcurrentHashMap<>();
+    private final AtomicInteger queryCacheHits = new AtomicInteger();
+    private final AtomicInteger queryCacheMisses = new AtomicInteger();
+
     private ProjectScanner(
             Map<String, Path> projectLocalDirsByName,
             List<IndexedFile> indexedAssets,
-            Map<String, List<IndexedFile>> dirIndex,
-            Charset charset) {
+            Charset charset,
+            List<IndexedDir> indexedDirs,
+            Map<Path, Set<String>> srcResourcesFiles,
+            List<ScanDeclarationBuildItem> declarations,
+            List<StringPathMatcher> ignoredMatchers) {
         this.projectLocalDirsByName = Collections.unmodifiableMap(projectLocalDirsByName);
         this.indexedAssets = Collections.unmodifiableList(indexedAssets);
-        this.dirIndex = Collections.unmodifiableMap(dirIndex);
         this.charset = charset;
+        this.indexedDirs = List.copyOf(indexedDirs);
+        this.srcResourcesFiles = srcResourcesFiles;
+        this.declarations = declarations;
+        this.ignoredMatchers = ignoredMatchers;
     }
 
     public Map<String, Path> localDirsByName() {
         return projectLocalDirsByName;
     }
 
+    /**
+     * The local directories walked to build the index, in indexing order.
+     * Package-private for testing.
+     */
+    List<IndexedDir> indexedDirs() {
+        return indexedDirs;
+    }
+
     record LocalDirEntry(Path dir, Path indexBase) {
     }
 
+    /**
+     * A directory of the local file system walked to build the index (application classes dir, local project dir...),
+     * its file changes can be applied to the index.
+     */
+    record IndexedDir(Path baseDir, Path directory, ProjectFile.Origin origin) {
+    }
+
     /**
      * Creates a scanner by indexing the given paths (directories or JARs).
      * Package-private for testing.
@@ -94,25 +134,74 @@ public final class ProjectScanner {
     static ProjectScanner forPaths(List<Path> paths, Path projectDir, List<LocalDirEntry> localDirEntries,
             List<ScanDeclarationBuildItem> declarations,
             List<String> defaultIgnoredFiles, Charset charset) throws IOException {
-        List<IndexedFile> index = new ArrayList<>();
-        List<PathMatcher> ignoredMatchers = compilePatterns(defaultIgnoredFiles);
+        return forPaths(paths, projectDir, localDirEntries, declarations, defaultIgnoredFiles, charset, null);
+    }
+
+    /**
+     * Creates a scanner by indexing the given paths, using the index cache file when not null.
+     * Package-private for testing.
+     */
+    static ProjectScanner forPaths(List<Path> paths, Path projectDir, List<LocalDirEntry> localDirEntries,
+            List<ScanDeclarationBuildItem> declarations,
+            List<String> defaultIgnoredFiles, Charset charset, Path indexCacheFile) throws IOException {
+        return forPaths(paths, projectDir, localDirEntries, declarations, defaultIgnoredFiles, charset, indexCacheFile,
+                1);
+    }
+
+    /**
+     * Creates a scanner by indexing the given paths, using the index cache file when not null
+     * and the given number of indexing threads.
+     * Package-private for testing.
+     */
+    static ProjectScanner forPaths(List<Path> paths, Path projectDir, List<LocalDirEntry> localDirEntries,
+            List<ScanDeclarationBuildItem> declarations,
+            List<String> defaultIgnoredFiles, Charset charset, Path indexCacheFile, int indexingThreads)
+            throws IOException {
+        return forPaths(paths, projectDir, localDirEntries, declarations, defaultIgnoredFiles, charset, indexCacheFile,
+                indexingThreads, List.of());
+    }
+
+    /**
+     * Creates a scanner by indexing the given paths, the sources of the files of the local directories are looked up in
+     * the given src resources dirs (in order).
+     * Package-private for testing.
+     */
+    static ProjectScanner forPaths(List<Path> paths, Path projectDir, List<LocalDirEntry> localDirEntries,
+            List<ScanDeclarationBuildItem> declarations,
+            List<String> defaultIgnoredFiles, Charset charset, Path indexCacheFile, int indexingThreads,
+            List<Path> srcResourcesDirs) throws IOException {
+        List<IndexedDir> indexedDirs = new ArrayList<>();
+        List<StringPathMatcher> ignoredMatchers = compilePatterns(defaultIgnoredFiles);
+        ProjectScannerIndexCache cache = ProjectScannerIndexCache.load(indexCacheFile,
+                ProjectScannerIndexCache.fingerprint(declarations, defaultIgnoredFiles));
+        final Set<String> scopeDirs = declaredScopeDirs(declarations);
+        final Map<Path, Set<String>> srcResourcesFiles = listSrcResourcesFiles(srcResourcesDirs, declarations);
+        final List<IndexTask> tasks = new ArrayList<>();
 
         for (Path path : paths) {
-            try (OpenPathTree tree = PathTree.ofDirectoryOrArchive(path).open()) {
-                for (Path root : tree.getRoots()) {
-                    indexDirectory(root, root, List.of(), index, ProjectFile.Origin.ROOT_APPLICATION_RESOURCE,
-                            ignoredMatchers, declarations);
+            tasks.add((index, dirs) -> {
+                final String cacheKey = cache.key(path);
+                final List<String> cached = cache.get(cacheKey);
+                if (cached == null && !ZipScopePrefilter.mayContain(path, scopeDirs)) {
+                    cache.put(cacheKey, List.of());
+                    return;
                 }
-            }
+                try (OpenPathTree tree = PathTree.ofDirectoryOrArchive(path).open()) {
+                    indexArchive(tree, cacheKey, cached, srcResourcesFiles, index, dirs,
+                            ProjectFile.Origin.ROOT_APPLICATION_RESOURCE, ignoredMatchers, declarations, cache);
+                }
+            });
         }
 
         for (LocalDirEntry entry : localDirEntries) {
-            indexDirectory(entry.indexBase(), entry.dir(), List.of(), index, ProjectFile.Origin.LOCAL_PROJECT_FILE,
-                    ignoredMatchers, declarations);
+            tasks.add((index, dirs) -> indexDirectory(entry.indexBase(), entry.dir(), Map.of(), index, dirs,
+                    ProjectFile.Origin.LOCAL_PROJECT_FILE, ignoredMatchers, declarations));
         }
 
-        List<IndexedFile> sorted = sortIndex(index);
-        return new ProjectScanner(Map.of(), sorted, buildDirIndex(sorted), charset);
+        List<IndexedFile> sorted = sortIndex(runIndexTasks(tasks, indexingThreads, indexedDirs));
+        cache.save();
+        return new ProjectScanner(Map.of(), sorted, charset, indexedDirs, srcResourcesFiles, declarations,
+                ignoredMatchers);
     }
 
     public static ProjectScanner create(LaunchModeBuildItem launchMode,
@@ -123,7 +212,9 @@ public final class ProjectScanner {
             List<ScanDeclarationBuildItem> declarations,
             List<String> defaultIgnoredFiles,
             Charset charset,
-            int warningThreshold) throws IOException {
+            int warningThreshold,
+            Path indexCacheFile,
+            int indexingThreads) throws IOException {
         final Collection<Path> srcResourcesDirs = launchMode.getLaunchMode().isDevOrTest()
                 ? findSrcResourcesDirs(curateOutcome)
                 : List.of();
@@ -149,14 +240,24 @@ public final class ProjectScanner {
             }
         }
 
+        final ProjectScannerIndexCache cache = ProjectScannerIndexCache.load(indexCacheFile,
+                ProjectScannerIndexCache.fingerprint(declarations, defaultIgnoredFiles));
+
         // Build the index immediately with default ignored files applied
+        final List<StringPathMatcher> ignoredMatchers = compilePatterns(defaultIgnoredFiles);
+        final Map<Path, Set<String>> srcResourcesFiles = listSrcResourcesFiles(srcResourcesDirs, declarations);
+        final List<IndexedDir> indexedDirs = new ArrayList<>();
         List<IndexedFile> indexedAssets = buildIndex(applicationArchives, curateOutcome,
-                srcResourcesDirs, projectDir.path(), localDirEntries, declarations, defaultIgnoredFiles);
+                srcResourcesFiles, localDirEntries, indexedDirs, declarations, ignoredMatchers, cache,
+                indexingThreads);
+        cache.save();
 
-        LOGGER.debugf("Indexed %d project resources", indexedAssets.size());
+        LOGGER.debugf("Indexed %d project resources (index cache: %d hits, %d misses)", indexedAssets.size(),
+                cache.hits(), cache.misses());
         checkIndexSize(indexedAssets.size(), warningThreshold);
 
-        return new ProjectScanner(projectLocalDirsByName, indexedAssets, buildDirIndex(indexedAssets), charset);
+        return new ProjectScanner(projectLocalDirsByName, indexedAssets, charset, indexedDirs, srcResourcesFiles,
+                declarations, ignoredMatchers);
     }
 
     private static void checkIndexSize(int size, int warningThreshold) {
@@ -168,21 +269,325 @@ public final class ProjectScanner {
         }
     }
 
+    /**
+     * Describes the inputs of the index which are not updated from the file changes (declarations, ignored files,
+     * archives, local and src resources dirs), the index must be built again when they differ.
+     *
+     * @return the description or {@code null} if the declarations can't be described
+     */
+    static String indexInputs(ApplicationArchivesBuildItem applicationArchives,
+            CurateOutcomeBuildItem curateOutcome,
+            ProjectRootBuildItem projectDir,
+            List<ScanLocalDirBuildItem> projectLocalDirs,
+            List<ScanDeclarationBuildItem> declarations,
+            List<String> defaultIgnoredFiles,
+            Charset charset) {
+        final String fingerprint = ProjectScannerIndexCache.fingerprint(declarations, defaultIgnoredFiles);
+        if (fingerprint == null) {
+            return null;
+        }
+        final Set<String> inputs = new TreeSet<>();
+        for (ResolvedDependency artifact : curateOutcome.getApplicationModel()
+                .getDependencies(DependencyFlags.RUNTIME_EXTENSION_ARTIFACT)) {
+            addStamps(inputs, artifact.getResolvedPaths());
+        }
+        for (ApplicationArchive archive : applicationArchives.getAllApplicationArchives()) {
+            addStamps(inputs, archive.getResolvedPaths());
+        }
+        if (projectDir.exists()) {
+            for (ScanLocalDirBuildItem item : projectLocalDirs) {
+                final Path dir = ProjectUtils.resolveSubDir(projectDir.path(), item.dir());
+                inputs.add("local:" + dir + "|" + item.indexBase());
+            }
+        }
+        for (Path srcResourcesDir : findSrcResourcesDirs(curateOutcome)) {
+            inputs.add("src:" + srcResourcesDir);
+        }
+        return fingerprint + "|" + charset.name() + "|" + inputs;
+    }
+
+    private static void addStamps(Set<String> inputs, PathCollection paths) {
+        if (paths == null) {
+            return;
+        }
+        for (Path path : paths) {
+            try {
+                final BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                // The content of the directories is updated from the file changes
+                inputs.add(attributes.isDirectory() ? "dir:" + path
+                        : "archive:" + path + "|" + attributes.size() + "|" + attributes.lastModifiedTime().toMillis());
+            } catch (IOException e) {
+                inputs.add("missing:" + path);
+            }
+        }
+    }
+
+    /**
+     * Creates a scanner with the changes applied to a copy of this index, files are inserted in or removed from the
+     * sorted index instead of walking all the archives and directories again.
+     * <p>
+     * Only the directories of the index (application classes dirs, local project dirs) and the src resources dirs
+     * are updated, the other inputs are expected to be unchanged (see {@code indexInputs}).
+     * The changes are checked against the file system, so their type (added, modified or removed) doesn't matter.
+     *
+     * @param changedFiles the changed files or directories, or {@code null} if unknown
+     * @param changedResources the changed classpath resources (relative to the classpath roots)
+     * @return the updated scanner, or {@code null} if the changes can't be applied and the index must be built again
+     */
+    ProjectScanner update(Collection<Path> changedFiles, Collection<String> changedResources) throws IOException {
+        if (declaredScopeDirs(declarations).contains("")) {
+            // Any file of the classes dirs may be indexed, the changed resources are not enough
+            return null;
+        }
+        if (changedFiles == null) {
+            for (IndexedDir dir : indexedDirs) {
+                if (dir.origin() == ProjectFile.Origin.LOCAL_PROJECT_FILE) {
+                    // Local project files are not classpath resources, their changes are unknown
+                    return null;
+                }
+            }
+        }
+        final List<Path> files = new ArrayList<>();
+        if (changedFiles != null) {
+            for (Path changedFile : changedFiles) {
+                files.add(changedFile.toAbsolutePath().normalize());
+            }
+        }
+        final Map<Path, Set<String>> srcFiles = new LinkedHashMap<>(srcResourcesFiles);
+        final Set<String> resources = new HashSet<>();
+        for (String resource : changedResources) {
+            final String path = resource.startsWith("/") ? resource.substring(1) : resource;
+            if (!path.isEmpty()) {
+                resources.add(path);
+            }
+        }
+        for (Path file : files) {
+            for (Path srcDir : srcFiles.keySet()) {
+                final Path dir = srcDir.toAbsolutePath().normalize();
+                if (file.equals(dir)) {
+                    return null;
+                }
+                if (file.startsWith(dir)) {
+                    resources.add(relativePath(dir, file));
+                }
+            }
+        }
+
+        // Sources first, they are looked up when updating the index
+        if (!resources.isEmpty()) {
+            for (Map.Entry<Path, Set<String>> entry : srcFiles.entrySet()) {
+                final Path dir = entry.getKey().toAbsolutePath().normalize();
+                final Set<String> paths = new HashSet<>(entry.getValue());
+                for (String resource : resources) {
+                    updatePaths(paths, dir, dir.resolve(resource).normalize(), resource);
+                }
+                entry.setValue(paths);
+            }
+        }
+
+        final List<IndexedFile> index = new ArrayList<>(indexedAssets);
+        for (IndexedDir dir : indexedDirs) {
+            final Path directory = dir.directory().toAbsolutePath().normalize();
+            final Set<Path> dirChanges = new LinkedHashSet<>();
+            for (Path file : files) {
+                if (file.equals(directory)) {
+                    return null;
+                }
+                if (file.startsWith(directory)) {
+                    dirChanges.add(file);
+                }
+            }
+            if (dir.origin() != ProjectFile.Origin.LOCAL_PROJECT_FILE) {
+                // Classpath roots are index bases
+                for (String resource : resources) {
+                    dirChanges.add(directory.resolve(resource).normalize());
+                }
+            }
+            for (Path file : dirChanges) {
+                updateIndex(index, dir, file, srcFiles);
+            }
+        }
+
+        LOGGER.debugf("Updated the index with %d changed files and %d changed resources (%d project resources)",
+                files.size(), resources.size(), index.size());
+        return new ProjectScanner(projectLocalDirsByName, index, charset, indexedDirs, srcFiles, declarations,
+                ignoredMatchers);
+    }
+
+    /**
+     * Makes the paths of the changed file (or of the files under the changed directory) match the file system.
+     */
+    private void updatePaths(Set<String> paths, Path dir, Path file, String path) throws IOException {
+        if (!file.startsWith(dir)) {
+            return;
+        }
+        paths.removeIf(p -> isSameOrUnder(p, path));
+        if (Files.isDirectory(file)) {
+            walkDeclaredFiles(dir, file, declarations, (f, indexPath) -> paths.add(indexPath));
+        } else if (Files.isRegularFile(file)) {
+            paths.add(path);
+        }
+    }
+
+    /**
+     * Makes the entries of the indexed dir for the changed file (or for the files under the changed directory)
+     * match the file system.
+     */
+    private void updateIndex(List<IndexedFile> index, IndexedDir dir, Path file, Map<Path, Set<String>> srcFiles)
+            throws IOException {
+        final Path baseDir = dir.baseDir().toAbsolutePath().normalize();
+        if (!file.startsWith(baseDir)) {
+            return;
+        }
+        final String path = relativePath(baseDir, file);
+        final Set<String> present = new HashSet<>();
+        if (Files.isDirectory(file)) {
+            walkDeclaredFiles(baseDir, file, declarations, (f, indexPath) -> present.add(indexPath));
+        } else if (Files.isRegularFile(file)) {
+            present.add(path);
+        }
+
+        // The entries under a path are contiguous in the sorted index
+        int i = lowerBound(index, path);
+        while (i < index.size() && index.get(i).indexPath().startsWith(path)) {
+            final IndexedFile indexed = index.get(i);
+            if (indexed.isFrom(dir) && isSameOrUnder(indexed.indexPath(), path)
+                    && !present.contains(indexed.indexPath())) {
+                index.remove(i);
+            } else {
+                i++;
+            }
+        }
+
+        for (String indexPath : present) {
+            if (matchesAnyPattern(indexPath, ignoredMatchers) || !matchesAnyDeclaration(indexPath, declarations)) {
+                continue;
+            }
+            final Path srcDir = dir.origin() == ProjectFile.Origin.LOCAL_PROJECT_FILE ? null
+                    : findSrcDir(indexPath, srcFiles);
+            insert(index, new IndexedFile(indexPath, dir.baseDir(), srcDir, dir.origin()), dir);
+        }
+    }
+
+    /**
+     * Inserts the file at its position in the sorted index (after the files with the same index path and a higher or
+     * equal priority), or replaces the entry of the same indexed dir.
+     */
+    private static void insert(List<IndexedFile> index, IndexedFile file, IndexedDir dir) {
+        int position = -1;
+        int i = lowerBound(index, file.indexPath());
+        for (; i < index.size() && index.get(i).indexPath().equals(file.indexPath()); i++) {
+            final IndexedFile indexed = index.get(i);
+            if (indexed.isFrom(dir)) {
+                // The source may have changed
+                index.set(i, file);
+                return;
+            }
+            if (position == -1 && indexed.priority() < file.priority()) {
+                position = i;
+            }
+        }
+        index.add(position == -1 ? i : position, file);
+    }
+
+    private static boolean isSameOrUnder(String indexPath, String path) {
+        return indexPath.startsWith(path)
+                && (indexPath.length() == path.length() || indexPath.charAt(path.length()) == '/');
+    }
+
+    private static String relativePath(Path dir, Path file) {
+        return toUnixPath(dir.relativize(file).toString());
+    }
+
     public ScanQueryBuilder query() {
         return new ScanQueryBuilder(this);
     }
 
     /**
      * Finds all project files matching the given query.
-     * Uses the directory index for scoped lookups when scope dirs are set.
+     * Scoped lookups only visit the range of the sorted index starting with the scope dir.
      * Matching and exclude filters receive scoped paths (relativized from the scope directory).
      * Results are sorted alphabetically by index path and deduplicated
      * according to the provided {@link DuplicateStrategy}.
+     * <p>
+     * Results are memoized: an identical query is served from memory, and a query adding filters to
+     * a previous query (same scope dirs, origins and strategy) filters the previous results instead of the index.
      */
     List<ProjectFile> find(ScanQuery query, DuplicateStrategy duplicateStrategy) throws IOException {
+        final QueryKey key = new QueryKey(query, duplicateStrategy);
+        List<ScopedFile> results = queryCache.get(key);
+        if (results == null) {
+            final List<ScopedFile> subsuming = findSubsumingResults(key);
+            if (subsuming != null) {
+                results = new ArrayList<>(subsuming.size());
+                for (ScopedFile file : subsuming) {
+                    if (matchesFilters(file.scopedPath(), query)) {
+                        results.add(file);
+                    }
+                }
+            } else {
+                results = findInIndex(query, duplicateStrategy);
+            }
+            queryCache.put(key, List.copyOf(results));
+            queryCacheMisses.incrementAndGet();
+        } else {
+            queryCacheHits.incrementAndGet();
+        }
+        final List<ProjectFile> files = new ArrayList<>(results.size());
+        for (ScopedFile file : results) {
+            files.add(file.indexed().toProjectFile(file.scopedPath(), charset));
+        }
+        return files;
+    }
+
+    int queryCacheHits() {
+        return queryCacheHits.get();
+    }
+
+    int queryCacheMisses() {
+        return queryCacheMisses.get();
+    }
+
+    /**
+     * Looks for memoized results of a query which is less restrictive than the given one: same scope dirs,
+     * origins and duplicate strategy, with a subset of its matching and exclude filters.
+     * <p>
+     * Filtering those results gives the same outcome only if duplicates of an index path share the same
+     * scoped path (non-overlapping scope dirs) and if deduplication can't fail.
+     */
+    private List<ScopedFile> findSubsumingResults(QueryKey key) {
+        if (key.strategy() == DuplicateStrategy.FAIL || hasOverlappingScopeDirs(key.query().scopeDirs())) {
+            return null;
+        }
+        final ScanQuery query = key.query();
+        for (Map.Entry<QueryKey, List<ScopedFile>> entry : queryCache.entrySet()) {
+            final ScanQuery cached = entry.getKey().query();
+            if (entry.getKey().strategy() == key.strategy()
+                    && cached.scopeDirs().equals(query.scopeDirs())
+                    && cached.origins().equals(query.origins())
+                    && query.matching().containsAll(cached.matching())
+                    && query.excludes().containsAll(cached.excludes())) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static boolean hasOverlappingScopeDirs(List<String> scopeDirs) {
+        for (int i = 0; i < scopeDirs.size(); i++) {
+            for (int j = 0; j < scopeDirs.size(); j++) {
+                if (i != j && scopeDirs.get(i).startsWith(scopeDirs.get(j))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private List<ScopedFile> findInIndex(ScanQuery query, DuplicateStrategy duplicateStrategy) {
         List<String> scopeDirs = query.scopeDirs();
         Set<ProjectFile.Origin> origins = query.origins();
-        List<ProjectFile> results = new ArrayList<>();
+        List<ScopedFile> results = new ArrayList<>();
 
         boolean hasRootScope = scopeDirs.contains("");
 
@@ -190,19 +595,23 @@ public final class ProjectScanner {
             // Root scope: full scan, filters see full paths
             for (IndexedFile indexed : indexedAssets) {
                 if (matchesOrigin(indexed, origins) && matchesFilters(indexed.indexPath(), query)) {
-                    results.add(indexed.toProjectFile(indexed.indexPath(), charset));
+                    results.add(new ScopedFile(indexed, indexed.indexPath()));
                 }
             }
         } else {
             // Scoped: search only files under scope dirs, filters see relativized paths
             for (String scopeDir : scopeDirs) {
-                for (IndexedFile indexed : dirIndex.getOrDefault(scopeDir, List.of())) {
+                for (int i = lowerBound(scopeDir); i < indexedAssets.size(); i++) {
+                    IndexedFile indexed = indexedAssets.get(i);
+                    if (!indexed.indexPath().startsWith(scopeDir)) {
+                        break;
+                    }
                     if (!matchesOrigin(indexed, origins)) {
                         continue;
                     }
                     String scopedPath = indexed.indexPath().substring(scopeDir.length());
                     if (matchesFilters(scopedPath, query)) {
-                        results.add(indexed.toProjectFile(scopedPath, charset));
+                        results.add(new ScopedFile(indexed, scopedPath));
                     }
                 }
             }
@@ -211,6 +620,28 @@ public final class ProjectScanner {
         return applyDuplicateStrategy(results, duplicateStrategy);
     }
 
+    /**
+     * Returns the position of the first indexed file with an index path greater than or equal to the given prefix.
+     * Since the index is sorted by index path, all the files starting with the prefix are contiguous from there.
+     */
+    private int lowerBound(String prefix) {
+        return lowerBound(indexedAssets, prefix);
+    }
+
+    private static int lowerBound(List<IndexedFile> index, String prefix) {
+        int low = 0;
+        int high = index.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (index.get(mid).indexPath().compareTo(prefix) < 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
     private static boolean matchesOrigin(IndexedFile indexed, Set<ProjectFile.Origin> origins) {
         return origins.isEmpty() || origins.contains(indexed.origin());
     }
@@ -231,15 +662,13 @@ public final class ProjectScanner {
 
     private static List<IndexedFile> buildIndex(ApplicationArchivesBuildItem applicationArchives,
             CurateOutcomeBuildItem curateOutcome,
-            Collection<Path> srcResourcesDirs,
-            Path projectDir, List<LocalDirEntry> localDirs,
+            Map<Path, Set<String>> srcResourcesFiles,
+            List<LocalDirEntry> localDirs,
+            List<IndexedDir> indexedDirs,
             List<ScanDeclarationBuildItem> declarations,
-            List<String> defaultIgnoredFiles) throws IOException {
-        List<IndexedFile> index = new ArrayList<>();
-
-        // Compile default ignored patterns once for all indexing operations
-        List<PathMatcher> ignoredMatchers = compilePatterns(defaultIgnoredFiles);
-
+            List<StringPathMatcher> ignoredMatchers,
+            ProjectScannerIndexCache cache,
+            int indexingThreads) throws IOException {
         // Build app archive keys to skip extension artifacts that are also app archives (same as Qute core)
         final Set<ApplicationArchive> allApplicationArchives = applicationArchives.getAllApplicationArchives();
         final Set<ArtifactKey> appArtifactKeys = new HashSet<>(allApplicationArchives.size());
@@ -247,53 +676,110 @@ public final class ProjectScanner {
             appArtifactKeys.add(archive.getKey());
         }
 
+        // Each archive is indexed by an independent task, the tasks order defines the index order
+        final List<IndexTask> tasks = new ArrayList<>();
+        final Set<String> scopeDirs = declaredScopeDirs(declarations);
+
         // Index extension artifacts as DEPENDENCY_RESOURCE (skip those that are also app archives)
         for (ResolvedDependency artifact : curateOutcome.getApplicationModel()
                 .getDependencies(DependencyFlags.RUNTIME_EXTENSION_ARTIFACT)) {
             if (appArtifactKeys.contains(artifact.getKey())) {
                 continue;
             }
-            try (OpenPathTree tree = artifact.getContentTree().open()) {
-                for (Path rootDir : tree.getRoots()) {
-                    indexDirectory(rootDir, rootDir, srcResourcesDirs, index,
-                            ProjectFile.Origin.DEPENDENCY_RESOURCE, ignoredMatchers, declarations);
+            tasks.add((index, dirs) -> {
+                final Path archivePath = singlePath(artifact.getResolvedPaths());
+                final String cacheKey = cache.key(archivePath);
+                final List<String> cached = cache.get(cacheKey);
+                if (cached != null && cached.isEmpty()) {
+                    // Nothing to index in this unchanged archive, no need to open it
+                    return;
                 }
-            }
+                if (cached == null && !ZipScopePrefilter.mayContain(archivePath, scopeDirs)) {
+                    // No entry under the scope dirs according to the zip central directory
+                    cache.put(cacheKey, List.of());
+                    return;
+                }
+                try (OpenPathTree tree = artifact.getContentTree().open()) {
+                    indexArchive(tree, cacheKey, cached, srcResourcesFiles, index, dirs,
+                            ProjectFile.Origin.DEPENDENCY_RESOURCE, ignoredMatchers, declarations, cache);
+                }
+            });
         }
 
         // Index non-root application archives as DEPENDENCY_RESOURCE
         for (ApplicationArchive archive : applicationArchives.getApplicationArchives()) {
-            archive.accept(tree -> {
-                for (Path rootDir : tree.getRoots()) {
-                    try {
-                        indexDirectory(rootDir, rootDir, srcResourcesDirs, index,
-                                ProjectFile.Origin.DEPENDENCY_RESOURCE, ignoredMatchers, declarations);
-                    } catch (IOException e) {
-                        throw new UncheckedIOException(e);
-                    }
-                }
-            });
+            tasks.add((index, dirs) -> indexApplicationArchive(archive, srcResourcesFiles, index, dirs,
+                    ProjectFile.Origin.DEPENDENCY_RESOURCE, ignoredMatchers, declarations, scopeDirs, cache));
         }
 
         // Index root archive (scanned last, same as Quarkus core Qute processor)
-        applicationArchives.getRootArchive().accept(tree -> {
-            for (Path rootDir : tree.getRoots()) {
+        tasks.add((index, dirs) -> indexApplicationArchive(applicationArchives.getRootArchive(), srcResourcesFiles,
+                index, dirs, ProjectFile.Origin.ROOT_APPLICATION_RESOURCE, ignoredMatchers, declarations, scopeDirs,
+                cache));
+
+        // Index local directories
+        for (LocalDirEntry entry : localDirs) {
+            tasks.add((index, dirs) -> indexDirectory(entry.indexBase(), entry.dir(), srcResourcesFiles, index, dirs,
+                    ProjectFile.Origin.LOCAL_PROJECT_FILE, ignoredMatchers, declarations));
+        }
+
+        return sortIndex(runIndexTasks(tasks, indexingThreads, indexedDirs));
+    }
+
+    private static void indexApplicationArchive(ApplicationArchive archive,
+            Map<Path, Set<String>> srcResourcesFiles,
+            List<IndexedFile> index,
+            List<IndexedDir> indexedDirs,
+            ProjectFile.Origin origin,
+            List<StringPathMatcher> ignoredMatchers,
+            List<ScanDeclarationBuildItem> declarations,
+            Set<String> scopeDirs,
+            ProjectScannerIndexCache cache) throws IOException {
+        final Path archivePath = singlePath(archive.getResolvedPaths());
+        final String cacheKey = cache.key(archivePath);
+        final List<String> cached = cache.get(cacheKey);
+        if (cached != null && cached.isEmpty()) {
+            return;
+        }
+        if (cached == null && !ZipScopePrefilter.mayContain(archivePath, scopeDirs)) {
+            cache.put(cacheKey, List.of());
+            return;
+        }
+        try {
+            archive.accept(tree -> {
                 try {
-                    indexDirectory(rootDir, rootDir, srcResourcesDirs, index,
-                            ProjectFile.Origin.ROOT_APPLICATION_RESOURCE, ignoredMatchers, declarations);
+                    indexArchive(tree, cacheKey, cached, srcResourcesFiles, index, indexedDirs,
+                            origin, ignoredMatchers, declarations, cache);
                 } catch (IOException e) {
                     throw new UncheckedIOException(e);
                 }
-            }
-        });
-
-        // Index local directories
-        for (LocalDirEntry entry : localDirs) {
-            indexDirectory(entry.indexBase(), entry.dir(), srcResourcesDirs, index,
-                    ProjectFile.Origin.LOCAL_PROJECT_FILE, ignoredMatchers, declarations);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
         }
+    }
 
-        return sortIndex(index);
+    /**
+     * Runs the index tasks, in parallel when more than one thread is allowed.
+     * Each task indexes into its own buffers and buffers are merged in the tasks order,
+     * so the indexed files and the indexed dirs are the same as when indexing sequentially.
+     */
+    private static List<IndexedFile> runIndexTasks(List<IndexTask> tasks, int indexingThreads,
+            List<IndexedDir> indexedDirs) throws IOException {
+        final List<ParallelTasks.Task<IndexBuffer>> bufferTasks = new ArrayList<>(tasks.size());
+        for (IndexTask task : tasks) {
+            bufferTasks.add(() -> {
+                final IndexBuffer buffer = new IndexBuffer(new ArrayList<>(), new ArrayList<>());
+                task.index(buffer.files(), buffer.dirs());
+                return buffer;
+            });
+        }
+        final List<IndexedFile> index = new ArrayList<>();
+        for (IndexBuffer buffer : ParallelTasks.run("project-scanner-indexer", indexingThreads, bufferTasks)) {
+            index.addAll(buffer.files());
+            indexedDirs.addAll(buffer.dirs());
+        }
+        return index;
     }
 
     /**
@@ -308,43 +794,23 @@ public final class ProjectScanner {
         return result;
     }
 
-    /**
-     * Builds a directory index from the sorted list of indexed files.
-     * Each directory prefix (with trailing {@code /}) maps to all files recursively under it.
-     * The lists share the same {@link IndexedFile} instances as the main index (no object duplication).
-     * List order is preserved from the sorted index (by path then priority descending).
-     */
-    private static Map<String, List<IndexedFile>> buildDirIndex(List<IndexedFile> sortedIndex) {
-        Map<String, List<IndexedFile>> index = new HashMap<>();
-        for (IndexedFile file : sortedIndex) {
-            String path = file.indexPath();
-            int pos = 0;
-            while ((pos = path.indexOf('/', pos)) != -1) {
-                String dirPrefix = path.substring(0, pos + 1); // include trailing /
-                index.computeIfAbsent(dirPrefix, k -> new ArrayList<>()).add(file);
-                pos++;
-            }
-        }
-        return index;
-    }
-
     /**
      * Applies the given {@link DuplicateStrategy} to deduplicate results by index path.
      * Expects input already sorted by path then priority descending (from the index order).
      */
-    private static List<ProjectFile> applyDuplicateStrategy(List<ProjectFile> results, DuplicateStrategy strategy) {
+    private static List<ScopedFile> applyDuplicateStrategy(List<ScopedFile> results, DuplicateStrategy strategy) {
         if (results.size() <= 1) {
             return results;
         }
-        Map<String, ProjectFile> byPath = new LinkedHashMap<>(results.size());
-        for (ProjectFile file : results) {
-            ProjectFile existing = byPath.get(file.indexPath());
+        Map<String, ScopedFile> byPath = new LinkedHashMap<>(results.size());
+        for (ScopedFile file : results) {
+            ScopedFile existing = byPath.get(file.indexed().indexPath());
             if (existing == null) {
-                byPath.put(file.indexPath(), file);
+                byPath.put(file.indexed().indexPath(), file);
             } else {
                 switch (strategy) {
                     case FAIL -> throw new DuplicatePathException(
-                            file.indexPath(), existing.origin(), file.origin());
+                            file.indexed().indexPath(), existing.indexed().origin(), file.indexed().origin());
                     case PREFER_APP -> {
                         // First seen is already highest priority (index is sorted by priority descending),
                         // so keep it: LOCAL_PROJECT_FILE > ROOT_APPLICATION_RESOURCE > DEPENDENCY_RESOURCE
@@ -352,7 +818,7 @@ public final class ProjectScanner {
                     case PREFER_DEPENDENCY -> {
                         // Replace with later entry which has lower priority (index is sorted by priority
                         // descending), so the last seen wins: DEPENDENCY_RESOURCE > ROOT_APPLICATION_RESOURCE > LOCAL_PROJECT_FILE
-                        byPath.put(file.indexPath(), file);
+                        byPath.put(file.indexed().indexPath(), file);
                     }
                 }
             }
@@ -360,51 +826,183 @@ public final class ProjectScanner {
         return new ArrayList<>(byPath.values());
     }
 
+    private static Path singlePath(PathCollection paths) {
+        return paths != null && paths.isSinglePath() ? paths.getSinglePath() : null;
+    }
+
+    /**
+     * Indexes all the roots of an archive or directory tree.
+     * When the archive is cacheable (single root and a non-null cache key), the cached index paths are used
+     * instead of walking it, otherwise the walk result is stored in the cache.
+     */
+    private static void indexArchive(PathTree tree,
+            String cacheKey,
+            List<String> cachedIndexPaths,
+            Map<Path, Set<String>> srcResourcesFiles,
+            List<IndexedFile> index,
+            List<IndexedDir> indexedDirs,
+            ProjectFile.Origin origin,
+            List<StringPathMatcher> ignoredMatchers,
+            List<ScanDeclarationBuildItem> declarations,
+            ProjectScannerIndexCache cache) throws IOException {
+        final Collection<Path> roots = tree.getRoots();
+        if (cacheKey == null || roots.size() != 1) {
+            for (Path rootDir : roots) {
+                indexDirectory(rootDir, rootDir, srcResourcesFiles, index, indexedDirs, origin, ignoredMatchers,
+                        declarations);
+            }
+            return;
+        }
+        final Path rootDir = roots.iterator().next();
+        if (cachedIndexPaths != null) {
+            // Archives are never on the local filesystem, so there is no source to look for
+            for (String indexPath : cachedIndexPaths) {
+                index.add(new IndexedFile(indexPath, rootDir, null, origin));
+            }
+            return;
+        }
+        final int start = index.size();
+        indexDirectory(rootDir, rootDir, srcResourcesFiles, index, indexedDirs, origin, ignoredMatchers,
+                declarations);
+        final List<String> indexPaths = new ArrayList<>(index.size() - start);
+        for (IndexedFile indexed : index.subList(start, index.size())) {
+            indexPaths.add(indexed.indexPath());
+        }
+        cache.put(cacheKey, indexPaths);
+    }
+
     private static void indexDirectory(Path baseDirPath,
             Path directory,
-            Collection<Path> srcResourcesDirs,
+            Map<Path, Set<String>> srcResourcesFiles,
             List<IndexedFile> index,
+            List<IndexedDir> indexedDirs,
             ProjectFile.Origin origin,
-            List<PathMatcher> ignoredMatchers,
+            List<StringPathMatcher> ignoredMatchers,
             List<ScanDeclarationBuildItem> declarations) throws IOException {
         boolean isLocalFileSystem = ProjectFile.isLocalFileSystem(directory);
+        if (isLocalFileSystem) {
+            indexedDirs.add(new IndexedDir(baseDirPath, directory, origin));
+        }
 
-        try (Stream<Path> files = Files.find(directory, 20, (p, a) -> a.isRegularFile())) {
-            Iterator<Path> iter = files.iterator();
-            while (iter.hasNext()) {
-                Path filePath = iter.next();
-                if (!directory.isAbsolute()
-                        && filePath.isAbsolute()
-                        && filePath.getRoot() != null) {
-                    filePath = filePath.getRoot().relativize(filePath);
+        final WalkStats stats = walkDeclaredFiles(baseDirPath, directory, declarations, (filePath, indexPath) -> {
+            // Apply default ignored files filter during indexing
+            if (matchesAnyPattern(indexPath, ignoredMatchers)) {
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debugf("Ignoring file during indexing: %s", indexPath);
                 }
+                return;
+            }
 
-                String indexPath = baseDirPath.relativize(filePath).normalize().toString();
-                if (indexPath.contains("\\")) {
-                    indexPath = toUnixPath(indexPath);
-                }
+            // Only index files matching at least one declaration
+            if (!matchesAnyDeclaration(indexPath, declarations)) {
+                return;
+            }
 
-                if (!indexPath.isEmpty()) {
-                    // Apply default ignored files filter during indexing
-                    if (matchesAnyPattern(indexPath, ignoredMatchers)) {
-                        if (LOGGER.isDebugEnabled()) {
-                            LOGGER.debugf("Ignoring file during indexing: %s", indexPath);
-                        }
-                        continue;
-                    }
+            // Local project files are their own source
+            final Path srcDir = origin == ProjectFile.Origin.LOCAL_PROJECT_FILE || !isLocalFileSystem ? null
+                    : findSrcDir(indexPath, srcResourcesFiles);
 
-                    // Only index files matching at least one declaration
-                    if (!matchesAnyDeclaration(indexPath, declarations)) {
-                        continue;
+            index.add(new IndexedFile(indexPath, baseDirPath, srcDir, origin));
+        });
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debugf("Walked %s: %d files visited, %d directories skipped", directory, stats.visitedFiles(),
+                    stats.skippedDirs());
+        }
+    }
+
+    /**
+     * Walks the regular files of the directory (up to 20 levels deep), skipping the whole subtrees which can't contain
+     * files matching the declarations: only the directories inside a declared scope dir, or on the way to one, are
+     * walked.
+     * Package-private for testing.
+     */
+    static WalkStats walkDeclaredFiles(Path baseDirPath, Path directory, List<ScanDeclarationBuildItem> declarations,
+            BiConsumer<Path, String> consumer) throws IOException {
+        final Set<String> scopeDirs = declaredScopeDirs(declarations);
+        // The root scope matches everything, nothing can be pruned
+        final boolean prune = !scopeDirs.contains("");
+        final int[] visitedFiles = new int[1];
+        final int[] skippedDirs = new int[1];
+        Files.walkFileTree(directory, EnumSet.noneOf(FileVisitOption.class), 20, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+                if (prune) {
+                    final String dirPath = indexPath(baseDirPath, directory, dir);
+                    if (!isDeclaredDir(dirPath.isEmpty() ? dirPath : dirPath + "/", scopeDirs)) {
+                        skippedDirs[0]++;
+                        return FileVisitResult.SKIP_SUBTREE;
                     }
+                }
+                return FileVisitResult.CONTINUE;
+            }
 
-                    final Path srcFilePath = origin == ProjectFile.Origin.LOCAL_PROJECT_FILE ? filePath
-                            : (isLocalFileSystem ? findSrc(indexPath, srcResourcesDirs) : null);
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+                if (attrs.isRegularFile()) {
+                    visitedFiles[0]++;
+                    final Path filePath = relativeToRoot(directory, file);
+                    final String indexPath = indexPath(baseDirPath, directory, file);
+                    if (!indexPath.isEmpty()) {
+                        consumer.accept(filePath, indexPath);
+                    }
+                }
+                return FileVisitResult.CONTINUE;
+            }
 
-                    index.add(new IndexedFile(indexPath, filePath.normalize(), srcFilePath, origin));
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException exc) throws IOException {
+                if (file.equals(directory)) {
+                    throw exc;
                 }
+                LOGGER.debugf(exc, "Failed to visit %s during indexing", file);
+                return FileVisitResult.CONTINUE;
             }
+        });
+        return new WalkStats(visitedFiles[0], skippedDirs[0]);
+    }
+
+    /**
+     * @param visitedFiles the number of regular files visited
+     * @param skippedDirs the number of directories skipped with their whole subtree
+     */
+    record WalkStats(int visitedFiles, int skippedDirs) {
+    }
+
+    private static Set<String> declaredScopeDirs(List<ScanDeclarationBuildItem> declarations) {
+        final Set<String> scopeDirs = new HashSet<>();
+        for (ScanDeclarationBuildItem declaration : declarations) {
+            scopeDirs.addAll(declaration.query().scopeDirs());
         }
+        return scopeDirs;
+    }
+
+    /**
+     * A directory can contain declared files when it is inside a scope dir or when a scope dir is inside it.
+     */
+    private static boolean isDeclaredDir(String dirPath, Collection<String> scopeDirs) {
+        for (String scopeDir : scopeDirs) {
+            if (scopeDir.startsWith(dirPath) || dirPath.startsWith(scopeDir)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Path relativeToRoot(Path directory, Path path) {
+        if (!directory.isAbsolute()
+                && path.isAbsolute()
+                && path.getRoot() != null) {
+            return path.getRoot().relativize(path);
+        }
+        return path;
+    }
+
+    private static String indexPath(Path baseDirPath, Path directory, Path path) {
+        String indexPath = baseDirPath.relativize(relativeToRoot(directory, path)).normalize().toString();
+        if (indexPath.contains("\\")) {
+            indexPath = toUnixPath(indexPath);
+        }
+        return indexPath;
     }
 
     private static boolean matchesAnyDeclaration(String indexPath, List<ScanDeclarationBuildItem> declarations) {
@@ -416,28 +1014,28 @@ public final class ProjectScanner {
         return false;
     }
 
-    static PathMatcher createPathMatcher(String pattern) {
+    static StringPathMatcher createPathMatcher(String pattern) {
         if (pattern == null || pattern.isEmpty()) {
             return null;
         }
-        return FileSystems.getDefault().getPathMatcher(pattern);
+        return StringPathMatcher.compile(pattern);
     }
 
     /**
-     * Compiles a list of pattern strings into PathMatcher objects using Unix-style matching.
+     * Compiles a list of pattern strings into StringPathMatcher objects using Unix-style matching.
      *
      * @param patterns the list of pattern strings
-     * @return a list of compiled PathMatcher objects
+     * @return a list of compiled StringPathMatcher objects
      */
-    static List<PathMatcher> compilePatterns(List<String> patterns) {
+    static List<StringPathMatcher> compilePatterns(List<String> patterns) {
         if (patterns == null || patterns.isEmpty()) {
             return List.of();
         }
 
-        List<PathMatcher> matchers = new ArrayList<>(patterns.size());
+        List<StringPathMatcher> matchers = new ArrayList<>(patterns.size());
         for (String pattern : patterns) {
             try {
-                PathMatcher matcher = createPathMatcher(pattern);
+                StringPathMatcher matcher = createPathMatcher(pattern);
                 if (matcher != null) {
                     matchers.add(matcher);
                 }
@@ -449,20 +1047,19 @@ public final class ProjectScanner {
     }
 
     /**
-     * Checks if a file path matches a given PathMatcher.
+     * Checks if a file path matches a given StringPathMatcher.
      *
      * @param assetPath the path to check (relative path)
-     * @param pathMatcher the compiled PathMatcher to match against
+     * @param pathMatcher the compiled StringPathMatcher to match against
      * @return true if the path matches the pattern, false otherwise
      */
-    private static boolean matchesPattern(String assetPath, PathMatcher pathMatcher) {
+    private static boolean matchesPattern(String assetPath, StringPathMatcher pathMatcher) {
         if (pathMatcher == null || assetPath == null || assetPath.isEmpty()) {
             return false;
         }
 
         try {
-            Path path = Path.of(assetPath);
-            return pathMatcher.matches(path);
+            return pathMatcher.matches(assetPath);
         } catch (Exception e) {
             LOGGER.warnf(e, "Failed to apply path matcher to asset %s", assetPath);
             return false;
@@ -470,18 +1067,18 @@ public final class ProjectScanner {
     }
 
     /**
-     * Checks if a file path matches any of the provided PathMatchers.
+     * Checks if a file path matches any of the provided StringPathMatchers.
      *
      * @param assetPath the path to check (relative path)
-     * @param pathMatchers the list of compiled PathMatchers to match against
+     * @param pathMatchers the list of compiled StringPathMatchers to match against
      * @return true if the path matches any pattern, false otherwise
      */
-    private static boolean matchesAnyPattern(String assetPath, List<PathMatcher> pathMatchers) {
+    private static boolean matchesAnyPattern(String assetPath, List<StringPathMatcher> pathMatchers) {
         if (pathMatchers == null || pathMatchers.isEmpty() || assetPath == null || assetPath.isEmpty()) {
             return false;
         }
 
-        for (PathMatcher pathMatcher : pathMatchers) {
+        for (StringPathMatcher pathMatcher : pathMatchers) {
             if (matchesPattern(assetPath, pathMatcher)) {
                 return true;
             }
@@ -489,19 +1086,41 @@ public final class ProjectScanner {
         return false;
     }
 
-    private static Path findSrc(String assetPath, Collection<Path> srcResourcesDirs) {
-        for (Path srcResourcesDir : srcResourcesDirs) {
-            final Path absolutePath = srcResourcesDir.resolve(assetPath);
-            if (Files.isRegularFile(absolutePath)) {
+    /**
+     * @return the src resources dir containing the source of this asset or {@code null}
+     */
+    private static Path findSrcDir(String assetPath, Map<Path, Set<String>> srcResourcesFiles) {
+        for (Map.Entry<Path, Set<String>> srcResourcesDir : srcResourcesFiles.entrySet()) {
+            if (srcResourcesDir.getValue().contains(assetPath)) {
                 if (LOGGER.isDebugEnabled()) {
-                    LOGGER.debugf("found source for %s in %s", assetPath, absolutePath);
+                    LOGGER.debugf("found source for %s in %s", assetPath, srcResourcesDir.getKey());
                 }
-                return absolutePath;
+                return srcResourcesDir.getKey();
             }
         }
         return null;
     }
 
+    /**
+     * Lists the files of each src resources dir once (pruned to the declared scope dirs), so that finding the source
+     * of an indexed file is a lookup instead of a file system probe per file and src resources dir.
+     *
+     * @return the relative paths of the files by src resources dir, in the src resources dirs order
+     */
+    private static Map<Path, Set<String>> listSrcResourcesFiles(Collection<Path> srcResourcesDirs,
+            List<ScanDeclarationBuildItem> declarations) throws IOException {
+        final Map<Path, Set<String>> srcResourcesFiles = new LinkedHashMap<>();
+        for (Path srcResourcesDir : srcResourcesDirs) {
+            if (!Files.isDirectory(srcResourcesDir)) {
+                continue;
+            }
+            final Set<String> files = new HashSet<>();
+            walkDeclaredFiles(srcResourcesDir, srcResourcesDir, declarations, (file, indexPath) -> files.add(indexPath));
+            srcResourcesFiles.put(srcResourcesDir, files);
+        }
+        return srcResourcesFiles;
+    }
+
     public static byte[] readRuntimeResourceContent(String resourcePath) {
         AtomicReference<byte[]> content = new AtomicReference<>();
         QuarkusClassLoader.visitRuntimeResources(resourcePath, (v) -> {
@@ -520,19 +1139,66 @@ public final class ProjectScanner {
         return content.get();
     }
 
+    private record QueryKey(ScanQuery query, DuplicateStrategy strategy) {
+    }
+
+    /**
+     * A query result: an index entry with its path relative to the query scope dir.
+     */
+    private record ScopedFile(IndexedFile indexed, String scopedPath) {
+    }
+
+    @FunctionalInterface
+    private interface IndexTask {
+        void index(List<IndexedFile> index, List<IndexedDir> indexedDirs) throws IOException;
+    }
+
+    private record IndexBuffer(List<IndexedFile> files, List<IndexedDir> dirs) {
+    }
+
+    /**
+     * Copies a runtime resource to the target path without loading it in memory.
+     * Like {@link #readRuntimeResourceContent(String)}, the last visited resource wins.
+     */
+    static void transferRuntimeResource(String resourcePath, Path target) throws IOException {
+        AtomicBoolean found = new AtomicBoolean();
+        try {
+            QuarkusClassLoader.visitRuntimeResources(resourcePath, (v) -> {
+                if (!Files.isRegularFile(v.getPath())) {
+                    throw new RuntimeException("Failed to locate file on disk for reading: " + v.getPath());
+                }
+                try {
+                    Files.copy(v.getPath(), target, StandardCopyOption.REPLACE_EXISTING);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                found.set(true);
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        if (!found.get()) {
+            throw new RuntimeException("Failed to read content: " + resourcePath);
+        }
+    }
+
     /**
      * Holds an indexed file with metadata for fast filtering and path recalculation.
+     * <p>
+     * The index lives for the whole build (and dev reloads), so it is kept compact: the file and source paths are not
+     * stored, only the (shared) directories they are resolved from, they are materialized in
+     * {@link #toProjectFile(String, Charset)}.
      */
     private static class IndexedFile {
         final String indexPath; // Path relative to the index base
-        final Path filePath; // The actual file path
-        final Path srcFilePath; // Source file path (may be null)
+        final Path baseDir; // The index base, shared by all the files of the archive or directory
+        final Path srcDir; // The src resources dir containing the source (may be null)
         final ProjectFile.Origin origin;
 
-        IndexedFile(String indexPath, Path filePath, Path srcFilePath, ProjectFile.Origin origin) {
+        IndexedFile(String indexPath, Path baseDir, Path srcDir, ProjectFile.Origin origin) {
             this.indexPath = indexPath;
-            this.filePath = filePath;
-            this.srcFilePath = srcFilePath;
+            this.baseDir = baseDir;
+            this.srcDir = srcDir;
             this.origin = origin;
         }
 
@@ -552,13 +1218,19 @@ public final class ProjectScanner {
             return origin;
         }
 
+        boolean isFrom(IndexedDir dir) {
+            return origin == dir.origin() && baseDir.equals(dir.baseDir());
+        }
+
         /**
          * Creates a new ProjectFile with the specified scoped path and charset.
          */
         ProjectFile toProjectFile(String scopedPath, Charset charset) {
+            final Path filePath = baseDir.resolve(indexPath).normalize();
             if (ProjectFile.isLocalFileSystem(filePath)) {
                 String resPath = (origin != ProjectFile.Origin.LOCAL_PROJECT_FILE) ? indexPath : null;
-                Path source = (origin == ProjectFile.Origin.LOCAL_PROJECT_FILE) ? filePath : srcFilePath;
+                Path source = (origin == ProjectFile.Origin.LOCAL_PROJECT_FILE) ? filePath
+                        : (srcDir != null ? srcDir.resolve(indexPath) : null);
                 return new LocalProjectFile(indexPath, scopedPath, filePath, source, origin, resPath, charset);
             } else {
                 return new ClasspathProjectFile(indexPath, scopedPath, filePath, origin, indexPath, charset);
@@ -21,7 +21,7 @@ public final class ProjectScannerBuildItem extends SimpleBuildItem {
 
     private final ProjectScanner scanner;
 
-    private ProjectScannerBuildItem(ProjectScanner scanner) {
+    ProjectScannerBuildItem(ProjectScanner scanner) {
         this.scanner = scanner;
     }
 
@@ -33,11 +33,17 @@ public final class ProjectScannerBuildItem extends SimpleBuildItem {
             List<ScanDeclarationBuildItem> declarations,
             List<String> defaultIgnoredFiles,
             Charset charset,
-            int warningThreshold) throws IOException {
+            int warningThreshold,
+            Path indexCacheFile,
+            int indexingThreads) throws IOException {
         return new ProjectScannerBuildItem(
                 ProjectScanner.create(launchMode, applicationArchives, curateOutcome,
                         projectDir, localProjectDirs, declarations, defaultIgnoredFiles, charset,
-                        warningThreshold));
+                        warningThreshold, indexCacheFile, indexingThreads));
+    }
+
+    ProjectScanner scanner() {
+        return scanner;
     }
 
     public Map<String, Path> localProjectDirsByName() {
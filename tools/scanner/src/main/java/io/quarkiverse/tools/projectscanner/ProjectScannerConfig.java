@@ -42,4 +42,28 @@ public interface ProjectScannerConfig {
      */
     @WithDefault("10000")
     int indexedFilesWarningThreshold();
+
+    /**
+     * Persist the index of archives (JARs) in the build output directory, so that unchanged archives
+     * are not walked again on the next build or live reload.
+     * The cache is invalidated when an archive changes (path, size or last modified time)
+     * or when the scan declarations change.
+     */
+    @WithDefault("true")
+    boolean indexCache();
+
+    /**
+     * Number of threads used to index archives and local directories concurrently.
+     * With {@code 1}, indexing is sequential. The index is the same whatever the number of threads.
+     */
+    @WithDefault("1")
+    int indexingThreads();
+
+    /**
+     * In dev mode, update the index of the previous build with the changed files on live reload, instead of indexing
+     * all the archives and directories again.
+     * The index is built again when an archive, a scanned directory or a scan declaration changes.
+     */
+    @WithDefault("true")
+    boolean devIncrementalIndex();
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package io.quarkiverse.tools.projectscanner;
+
+/**
+ * The scanner of the previous dev build with a description of its inputs, kept across live reloads to update its
+ * index from the file changes.
+ *
+ * @param scanner the scanner or {@code null} if the previous build failed
+ * @param inputs the index inputs or {@code null} if they can't be described
+ * @param sequence the sequence number of the changed files when the index was built or {@code -1} if they were not
+ *        provided, see {@link ScanChangedFilesBuildItem}
+ */
+record ProjectScannerDevContext(ProjectScanner scanner, String inputs, long sequence) {
+
+    ProjectScannerDevContext() {
+        this(null, null, -1);
+    }
+}
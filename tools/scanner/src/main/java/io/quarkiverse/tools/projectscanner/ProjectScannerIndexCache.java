@@ -0,0 +1,216 @@
+package io.quarkiverse.tools.projectscanner;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Persistent cache of the index paths found in archives (JARs, ZIPs).
+ * <p>
+ * Entries are keyed by the archive absolute path, size and last modified time, so an unchanged archive
+ * is never walked again. The whole cache is invalidated when the declarations or ignored files change
+ * (see {@link #fingerprint(List, List)}).
+ * Lookups are thread-safe so archives can be indexed concurrently.
+ * Directories are not cached: detecting a change requires visiting every file anyway.
+ */
+final class ProjectScannerIndexCache {
+
+    private static final Logger LOGGER = Logger.getLogger(ProjectScannerIndexCache.class);
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path file;
+    private final String fingerprint;
+    private final Map<String, List<String>> previous;
+    private final Map<String, List<String>> current = new ConcurrentHashMap<>();
+    private final AtomicInteger hits = new AtomicInteger();
+    private final AtomicInteger misses = new AtomicInteger();
+
+    private ProjectScannerIndexCache(Path file, String fingerprint, Map<String, List<String>> previous) {
+        this.file = file;
+        this.fingerprint = fingerprint;
+        this.previous = previous;
+    }
+
+    static ProjectScannerIndexCache disabled() {
+        return new ProjectScannerIndexCache(null, null, Map.of());
+    }
+
+    /**
+     * Loads the cache from the given file, it is ignored if it doesn't exist, can't be read
+     * or was created for a different fingerprint.
+     *
+     * @param file the cache file, or {@code null} to disable the cache
+     * @param fingerprint the fingerprint of the indexing inputs, or {@code null} if they are not cacheable
+     */
+    static ProjectScannerIndexCache load(Path file, String fingerprint) {
+        if (file == null || fingerprint == null) {
+            return disabled();
+        }
+        if (!Files.isRegularFile(file)) {
+            return new ProjectScannerIndexCache(file, fingerprint, Map.of());
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != FORMAT_VERSION || !fingerprint.equals(in.readUTF())) {
+                LOGGER.debugf("Project scanner index cache is outdated: %s", file);
+                return new ProjectScannerIndexCache(file, fingerprint, Map.of());
+            }
+            final int size = in.readInt();
+            final Map<String, List<String>> entries = new HashMap<>(size);
+            for (int i = 0; i < size; i++) {
+                final String key = in.readUTF();
+                final int count = in.readInt();
+                final List<String> indexPaths = new ArrayList<>(count);
+                for (int j = 0; j < count; j++) {
+                    indexPaths.add(in.readUTF());
+                }
+                entries.put(key, List.copyOf(indexPaths));
+            }
+            return new ProjectScannerIndexCache(file, fingerprint, entries);
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Failed to read project scanner index cache: %s", file);
+            return new ProjectScannerIndexCache(file, fingerprint, Map.of());
+        }
+    }
+
+    /**
+     * Computes the fingerprint of everything which changes the outcome of indexing an archive.
+     *
+     * @return the fingerprint or {@code null} if a declaration uses a filter which can't be described
+     *         (e.g. a {@link ScanFilter.CustomFilter})
+     */
+    static String fingerprint(List<ScanDeclarationBuildItem> declarations, List<String> ignoredFiles) {
+        final List<String> parts = new ArrayList<>(declarations.size());
+        for (ScanDeclarationBuildItem declaration : declarations) {
+            final StringBuilder sb = new StringBuilder();
+            final ScanQuery query = declaration.query();
+            sb.append("scope:").append(query.scopeDirs());
+            for (ScanFilter filter : query.matching()) {
+                if (!(filter instanceof ScanFilter.PathFilter pathFilter)) {
+                    return null;
+                }
+                sb.append("|matching:").append(pathFilter.pattern());
+            }
+            for (ScanFilter filter : query.excludes()) {
+                if (!(filter instanceof ScanFilter.PathFilter pathFilter)) {
+                    return null;
+                }
+                sb.append("|exclude:").append(pathFilter.pattern());
+            }
+            parts.add(sb.toString());
+        }
+        // Declarations are OR-composed during indexing, their order doesn't matter
+        parts.sort(null);
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) '\n');
+            }
+            digest.update(String.valueOf(ignoredFiles).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    boolean isEnabled() {
+        return file != null;
+    }
+
+    /**
+     * Returns the key identifying the given archive content, or {@code null} if it can't be cached.
+     */
+    String key(Path archive) {
+        if (!isEnabled() || archive == null || !ProjectFile.isLocalFileSystem(archive)) {
+            return null;
+        }
+        try {
+            final BasicFileAttributes attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return null;
+            }
+            return archive.toAbsolutePath().normalize() + "|" + attributes.size() + "|"
+                    + attributes.lastModifiedTime().toMillis();
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * @return the cached index paths for this key or {@code null} if not found
+     */
+    List<String> get(String key) {
+        if (key == null) {
+            return null;
+        }
+        final List<String> indexPaths = previous.get(key);
+        if (indexPaths == null) {
+            misses.incrementAndGet();
+            return null;
+        }
+        hits.incrementAndGet();
+        current.put(key, indexPaths);
+        return indexPaths;
+    }
+
+    void put(String key, List<String> indexPaths) {
+        if (key != null) {
+            current.put(key, List.copyOf(indexPaths));
+        }
+    }
+
+    int hits() {
+        return hits.get();
+    }
+
+    int misses() {
+        return misses.get();
+    }
+
+    /**
+     * Writes the cache if it changed. Only the archives visited during this build are kept.
+     */
+    void save() {
+        if (!isEnabled() || current.equals(previous)) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.getParent());
+            final Path tmp = Files.createTempFile(file.getParent(), file.getFileName().toString(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(FORMAT_VERSION);
+                out.writeUTF(fingerprint);
+                out.writeInt(current.size());
+                for (Map.Entry<String, List<String>> entry : current.entrySet()) {
+                    out.writeUTF(entry.getKey());
+                    out.writeInt(entry.getValue().size());
+                    for (String indexPath : entry.getValue()) {
+                        out.writeUTF(indexPath);
+                    }
+                }
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Failed to write project scanner index cache: %s", file);
+        }
+    }
+}
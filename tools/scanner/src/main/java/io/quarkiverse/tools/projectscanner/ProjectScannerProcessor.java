@@ -4,16 +4,26 @@ import static io.quarkiverse.tools.projectscanner.util.ProjectUtils.findProjectR
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+
+import org.jboss.logging.Logger;
 
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
 import io.quarkus.deployment.builditem.LaunchModeBuildItem;
+import io.quarkus.deployment.builditem.LiveReloadBuildItem;
 import io.quarkus.deployment.pkg.builditem.CurateOutcomeBuildItem;
 import io.quarkus.deployment.pkg.builditem.OutputTargetBuildItem;
+import io.quarkus.runtime.LaunchMode;
 
 public class ProjectScannerProcessor {
 
+    private static final Logger LOGGER = Logger.getLogger(ProjectScannerProcessor.class);
+
+    private static final String INDEX_CACHE_DIR = "project-scanner";
+
     @BuildStep
     ProjectRootBuildItem initProjectRoot(OutputTargetBuildItem outputTarget) {
         final Path projectRoot = findProjectRoot(outputTarget.getOutputDirectory());
@@ -26,14 +36,85 @@ public class ProjectScannerProcessor {
             List<ScanLocalDirBuildItem> contributedDirs,
             List<ScanDeclarationBuildItem> declarations,
             LaunchModeBuildItem launchMode,
+            LiveReloadBuildItem liveReload,
+            Optional<ScanChangedFilesBuildItem> changedFiles,
             ApplicationArchivesBuildItem applicationArchives,
             CurateOutcomeBuildItem curateOutcome,
+            OutputTargetBuildItem outputTarget,
             ProjectScannerConfig scannerConfig) throws IOException {
+        final Path indexCacheFile = scannerConfig.indexCache()
+                ? outputTarget.getOutputDirectory().resolve(INDEX_CACHE_DIR)
+                        .resolve("index-" + launchMode.getLaunchMode().getDefaultProfile() + ".bin")
+                : null;
+        if (launchMode.getLaunchMode() != LaunchMode.DEVELOPMENT || !scannerConfig.devIncrementalIndex()) {
+            final ProjectScannerBuildItem scanner = createScanner(projectRoot, contributedDirs, declarations, launchMode,
+                    applicationArchives, curateOutcome, scannerConfig, indexCacheFile);
+            // No index is kept, the next incremental build starts from a new one
+            liveReload.setContextObject(ProjectScannerDevContext.class, new ProjectScannerDevContext());
+            changedFiles.ifPresent(ScanChangedFilesBuildItem::indexed);
+            return scanner;
+        }
+        final ProjectScannerDevContext previous = liveReload.getContextObject(ProjectScannerDevContext.class);
+        if (previous != null && previous.scanner() != null) {
+            LOGGER.debugf("Scan query cache of the previous build (hits: %d, misses: %d)",
+                    previous.scanner().queryCacheHits(), previous.scanner().queryCacheMisses());
+        }
+        try {
+            final String inputs = ProjectScanner.indexInputs(applicationArchives, curateOutcome, projectRoot,
+                    contributedDirs, declarations, scannerConfig.defaultIgnoredFiles(), scannerConfig.charset());
+            ProjectScannerBuildItem scanner = null;
+            if (liveReload.isLiveReload() && previous != null && previous.scanner() != null && inputs != null
+                    && inputs.equals(previous.inputs())) {
+                final ProjectScanner updated = updateScanner(previous, changedFiles, liveReload);
+                if (updated != null) {
+                    scanner = new ProjectScannerBuildItem(updated);
+                }
+            }
+            if (scanner == null) {
+                scanner = createScanner(projectRoot, contributedDirs, declarations, launchMode, applicationArchives,
+                        curateOutcome, scannerConfig, indexCacheFile);
+            }
+            liveReload.setContextObject(ProjectScannerDevContext.class, new ProjectScannerDevContext(scanner.scanner(),
+                    inputs, changedFiles.map(ScanChangedFilesBuildItem::sequence).orElse(-1L)));
+            // Only discarded once kept, the changes of an aborted build are polled again by the next one
+            changedFiles.ifPresent(ScanChangedFilesBuildItem::indexed);
+            return scanner;
+        } catch (IOException | RuntimeException e) {
+            // The changes of this build would be lost, the next one will build the index again
+            liveReload.setContextObject(ProjectScannerDevContext.class, new ProjectScannerDevContext());
+            throw e;
+        }
+    }
+
+    private static ProjectScanner updateScanner(ProjectScannerDevContext previous,
+            Optional<ScanChangedFilesBuildItem> changedFiles,
+            LiveReloadBuildItem liveReload) {
+        // The changes made before the watcher started are missing, they are handled as unknown
+        final Collection<Path> files = changedFiles
+                .filter(c -> c.containsChangesSince(previous.sequence()))
+                .map(ScanChangedFilesBuildItem::files)
+                .orElse(null);
+        try {
+            return previous.scanner().update(files, liveReload.getChangedResources());
+        } catch (IOException e) {
+            LOGGER.debugf(e, "Failed to update the project scanner index, building it again");
+            return null;
+        }
+    }
 
+    private static ProjectScannerBuildItem createScanner(ProjectRootBuildItem projectRoot,
+            List<ScanLocalDirBuildItem> contributedDirs,
+            List<ScanDeclarationBuildItem> declarations,
+            LaunchModeBuildItem launchMode,
+            ApplicationArchivesBuildItem applicationArchives,
+            CurateOutcomeBuildItem curateOutcome,
+            ProjectScannerConfig scannerConfig,
+            Path indexCacheFile) throws IOException {
         return ProjectScannerBuildItem.create(launchMode,
                 applicationArchives, curateOutcome, projectRoot, contributedDirs, declarations,
                 scannerConfig.defaultIgnoredFiles(), scannerConfig.charset(),
-                scannerConfig.indexedFilesWarningThreshold());
+                scannerConfig.indexedFilesWarningThreshold(), indexCacheFile,
+                scannerConfig.indexingThreads());
     }
 
 }
@@ -0,0 +1,62 @@
+package io.quarkiverse.tools.projectscanner;
+
+import java.nio.file.Path;
+import java.util.Collection;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * Build item that provides the files (or directories) added, modified or removed since the previous dev build, as
+ * reported by a file watcher. It allows the ProjectScanner to update the index of the previous build instead of
+ * building it again.
+ * <p>
+ * The changes are only complete if the watcher was already watching all the scanned directories when the previous
+ * index was built: the sequence numbers are compared for that, they must increase across the dev builds. Otherwise the
+ * index is built again.
+ * <p>
+ * Without it, the changes of the local project directories are unknown and the index is built again on each live
+ * reload when there are local project directories.
+ */
+public final class ScanChangedFilesBuildItem extends SimpleBuildItem {
+    private final Collection<Path> files;
+    private final long watchSequence;
+    private final long sequence;
+    private final Runnable indexed;
+
+    /**
+     * @param files the changed files not indexed yet, absolute
+     * @param watchSequence the sequence number at which the watcher started to report the changes of all the scanned
+     *        directories
+     * @param sequence the sequence number of the files, taken when they were collected
+     * @param indexed called once an index including the files is kept for the next build, to discard them
+     */
+    public ScanChangedFilesBuildItem(Collection<Path> files, long watchSequence, long sequence, Runnable indexed) {
+        this.files = files;
+        this.watchSequence = watchSequence;
+        this.sequence = sequence;
+        this.indexed = indexed;
+    }
+
+    public Collection<Path> files() {
+        return files;
+    }
+
+    public long sequence() {
+        return sequence;
+    }
+
+    /**
+     * @param indexSequence the sequence number of the files when the index was built
+     * @return true if the files contain all the changes since the index was built
+     */
+    public boolean containsChangesSince(long indexSequence) {
+        return watchSequence < indexSequence;
+    }
+
+    /**
+     * Discards the files, called once an index including them is kept for the next build.
+     */
+    public void indexed() {
+        indexed.run();
+    }
+}
@@ -1,9 +1,9 @@
 package io.quarkiverse.tools.projectscanner;
 
-import java.nio.file.Path;
-import java.nio.file.PathMatcher;
 import java.util.function.Predicate;
 
+import io.quarkiverse.tools.stringpaths.StringPathMatcher;
+
 public interface ScanFilter {
     boolean test(String path);
 
@@ -29,9 +29,16 @@ public interface ScanFilter {
         return fromPattern("glob:" + glob);
     }
 
-    record PathFilter(PathMatcher matcher) implements ScanFilter {
+    record PathFilter(StringPathMatcher matcher) implements ScanFilter {
         public boolean test(String path) {
-            return matcher.matches(Path.of(path));
+            return matcher.matches(path);
+        }
+
+        /**
+         * @return the prefixed pattern this filter was created from
+         */
+        public String pattern() {
+            return matcher.pattern();
         }
     }
 
@@ -0,0 +1,159 @@
+package io.quarkiverse.tools.projectscanner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.logging.Logger;
+
+/**
+ * Tells whether an archive may contain files under the declared scope dirs by only reading the entry names from
+ * its zip central directory (no entry is inflated), so that archives without declared resources are never opened.
+ * <p>
+ * The verdict is cached per archive path, size, last modified time and scope dirs, for the whole build process (dev
+ * reloads included). When the archive can't be checked (not a zip, ZIP64, read failure...) it may contain files.
+ */
+final class ZipScopePrefilter {
+
+    private static final Logger LOGGER = Logger.getLogger(ZipScopePrefilter.class);
+
+    private static final int EOCD_SIGNATURE = 0x06054b50;
+    private static final int EOCD_SIZE = 22;
+    private static final int ZIP64_EOCD_LOCATOR_SIGNATURE = 0x07064b50;
+    private static final int ZIP64_EOCD_LOCATOR_SIZE = 20;
+    private static final int CEN_SIGNATURE = 0x02014b50;
+    private static final int CEN_HEADER_SIZE = 46;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+
+    private static final Map<String, Boolean> VERDICTS = new ConcurrentHashMap<>();
+
+    private ZipScopePrefilter() {
+    }
+
+    /**
+     * @param archive the archive path
+     * @param scopeDirs the declared scope dirs (with a trailing slash, empty for the root)
+     * @return false only if the archive is a zip without any entry under the scope dirs
+     */
+    static boolean mayContain(Path archive, Collection<String> scopeDirs) {
+        if (archive == null || scopeDirs.isEmpty() || scopeDirs.contains("") || !ProjectFile.isLocalFileSystem(archive)) {
+            return true;
+        }
+        final BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(archive, BasicFileAttributes.class);
+        } catch (IOException e) {
+            return true;
+        }
+        if (!attributes.isRegularFile()) {
+            return true;
+        }
+        final String key = archive.toAbsolutePath().normalize() + "|" + attributes.size() + "|"
+                + attributes.lastModifiedTime().toMillis() + "|" + new TreeSet<>(scopeDirs);
+        return VERDICTS.computeIfAbsent(key, k -> readVerdict(archive, scopeDirs));
+    }
+
+    private static boolean readVerdict(Path archive, Collection<String> scopeDirs) {
+        try (FileChannel channel = FileChannel.open(archive, StandardOpenOption.READ)) {
+            final ByteBuffer centralDirectory = readCentralDirectory(channel);
+            if (centralDirectory == null) {
+                return true;
+            }
+            final byte[][] prefixes = new byte[scopeDirs.size()][];
+            int p = 0;
+            for (String scopeDir : scopeDirs) {
+                prefixes[p++] = scopeDir.getBytes(StandardCharsets.UTF_8);
+            }
+            int pos = 0;
+            while (pos + CEN_HEADER_SIZE <= centralDirectory.limit()) {
+                if (centralDirectory.getInt(pos) != CEN_SIGNATURE) {
+                    return true;
+                }
+                final int nameLength = Short.toUnsignedInt(centralDirectory.getShort(pos + 28));
+                final int extraLength = Short.toUnsignedInt(centralDirectory.getShort(pos + 30));
+                final int commentLength = Short.toUnsignedInt(centralDirectory.getShort(pos + 32));
+                for (byte[] prefix : prefixes) {
+                    if (startsWith(centralDirectory, pos + CEN_HEADER_SIZE, nameLength, prefix)) {
+                        return true;
+                    }
+                }
+                pos += CEN_HEADER_SIZE + nameLength + extraLength + commentLength;
+            }
+            LOGGER.debugf("No declared resources in %s, skipping it", archive);
+            return false;
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debugf(e, "Failed to read the zip central directory of %s", archive);
+            return true;
+        }
+    }
+
+    /**
+     * @return the central directory content (little endian) or {@code null} if not found or ZIP64
+     */
+    private static ByteBuffer readCentralDirectory(FileChannel channel) throws IOException {
+        final long size = channel.size();
+        if (size < EOCD_SIZE) {
+            return null;
+        }
+        final int tailSize = (int) Math.min(size, EOCD_SIZE + MAX_COMMENT_SIZE);
+        final long tailStart = size - tailSize;
+        final ByteBuffer tail = read(channel, tailStart, tailSize);
+        int eocd = -1;
+        for (int i = tailSize - EOCD_SIZE; i >= 0; i--) {
+            if (tail.getInt(i) == EOCD_SIGNATURE) {
+                eocd = i;
+                break;
+            }
+        }
+        if (eocd == -1) {
+            return null;
+        }
+        final int entries = Short.toUnsignedInt(tail.getShort(eocd + 10));
+        final long centralDirectorySize = Integer.toUnsignedLong(tail.getInt(eocd + 12));
+        final long centralDirectoryOffset = Integer.toUnsignedLong(tail.getInt(eocd + 16));
+        if (entries == 0xFFFF || centralDirectorySize == 0xFFFFFFFFL || centralDirectoryOffset == 0xFFFFFFFFL
+                || (eocd >= ZIP64_EOCD_LOCATOR_SIZE
+                        && tail.getInt(eocd - ZIP64_EOCD_LOCATOR_SIZE) == ZIP64_EOCD_LOCATOR_SIGNATURE)) {
+            // ZIP64, let the zip file system handle it
+            return null;
+        }
+        // Relative to the end of central directory record, in case some data is prepended to the archive
+        final long centralDirectoryStart = tailStart + eocd - centralDirectorySize;
+        if (centralDirectoryStart < 0) {
+            return null;
+        }
+        return read(channel, centralDirectoryStart, (int) centralDirectorySize);
+    }
+
+    private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+        final ByteBuffer buffer = ByteBuffer.allocate(length).order(ByteOrder.LITTLE_ENDIAN);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) == -1) {
+                throw new IOException("Unexpected end of archive");
+            }
+        }
+        return buffer.flip();
+    }
+
+    private static boolean startsWith(ByteBuffer buffer, int offset, int length, byte[] prefix) {
+        if (length < prefix.length || offset + prefix.length > buffer.limit()) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (buffer.get(offset + i) != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
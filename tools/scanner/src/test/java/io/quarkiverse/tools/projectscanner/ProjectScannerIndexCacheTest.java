@@ -0,0 +1,97 @@
+package io.quarkiverse.tools.projectscanner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProjectScannerIndexCacheTest {
+
+    static final List<ScanDeclarationBuildItem> WEB = List.of(ScanDeclarationBuildItem.of("web"));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void cachedArchiveGivesSameResults() throws IOException {
+        Path jar = createJar(tempDir.resolve("lib.jar"), "web/app.js", "web/style.css", "other/ignored.txt");
+        Path cacheFile = tempDir.resolve("cache/index.bin");
+
+        var first = indexPaths(ProjectScanner.forPaths(List.of(jar), null, List.of(), WEB, List.of(),
+                StandardCharsets.UTF_8, cacheFile));
+        assertThat(cacheFile).isRegularFile();
+
+        var second = indexPaths(ProjectScanner.forPaths(List.of(jar), null, List.of(), WEB, List.of(),
+                StandardCharsets.UTF_8, cacheFile));
+        assertThat(second).containsExactly("web/app.js", "web/style.css");
+        assertThat(second).isEqualTo(first);
+    }
+
+    @Test
+    void hitsAndMisses() throws IOException {
+        Path jar = createJar(tempDir.resolve("lib.jar"), "web/app.js");
+        Path cacheFile = tempDir.resolve("index.bin");
+        String fingerprint = ProjectScannerIndexCache.fingerprint(WEB, List.of());
+
+        var cache = ProjectScannerIndexCache.load(cacheFile, fingerprint);
+        String key = cache.key(jar);
+        assertThat(cache.get(key)).isNull();
+        cache.put(key, List.of("web/app.js"));
+        cache.save();
+
+        var reloaded = ProjectScannerIndexCache.load(cacheFile, fingerprint);
+        assertThat(reloaded.get(reloaded.key(jar))).containsExactly("web/app.js");
+        assertThat(reloaded.hits()).isEqualTo(1);
+
+        // Changing the archive changes the key (different size)
+        createJar(jar, "web/app.js", "web/other.js");
+        assertThat(reloaded.get(reloaded.key(jar))).isNull();
+        assertThat(reloaded.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void invalidatedWhenDeclarationsChange() throws IOException {
+        Path jar = createJar(tempDir.resolve("lib.jar"), "web/app.js", "other/file.txt");
+        Path cacheFile = tempDir.resolve("index.bin");
+
+        ProjectScanner.forPaths(List.of(jar), null, List.of(), WEB, List.of(), StandardCharsets.UTF_8, cacheFile);
+        var results = indexPaths(ProjectScanner.forPaths(List.of(jar), null, List.of(),
+                List.of(ScanDeclarationBuildItem.of("other")), List.of(), StandardCharsets.UTF_8, cacheFile));
+        assertThat(results).containsExactly("other/file.txt");
+    }
+
+    @Test
+    void customFilterIsNotCacheable() {
+        var declarations = List.of(new ScanDeclarationBuildItem(new ScanQuery(List.of("web/"),
+                List.of(new ScanFilter.CustomFilter(Predicate.not(String::isEmpty))), List.of(), Set.of())));
+        assertThat(ProjectScannerIndexCache.fingerprint(declarations, List.of())).isNull();
+        assertThat(ProjectScannerIndexCache.fingerprint(WEB, List.of())).isNotNull();
+    }
+
+    static List<String> indexPaths(ProjectScanner scanner) throws IOException {
+        return scanner.query().list().stream().map(ProjectFile::indexPath).toList();
+    }
+
+    static Path createJar(Path jar, String... entries) throws IOException {
+        try (OutputStream out = Files.newOutputStream(jar);
+                ZipOutputStream zip = new ZipOutputStream(out)) {
+            for (String entry : entries) {
+                zip.putNextEntry(new ZipEntry(entry));
+                zip.write(entry.getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+        }
+        return jar;
+    }
+}
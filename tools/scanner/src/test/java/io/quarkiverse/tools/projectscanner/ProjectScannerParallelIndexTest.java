@@ -0,0 +1,68 @@
+package io.quarkiverse.tools.projectscanner;
+
+import static io.quarkiverse.tools.projectscanner.ProjectScannerIndexCacheTest.createJar;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProjectScannerParallelIndexTest {
+
+    static final List<ScanDeclarationBuildItem> WEB = List.of(ScanDeclarationBuildItem.of("web"));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void parallelIndexIsSameAsSequential() throws IOException {
+        final List<Path> paths = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            // Same index paths in several archives, the first indexed one wins
+            final Path classes = tempDir.resolve("classes-" + i);
+            write(classes.resolve("web/app.js"));
+            write(classes.resolve("web/components/classes-" + i + ".js"));
+            paths.add(classes);
+            paths.add(createJar(tempDir.resolve("lib-" + i + ".jar"), "web/app.js", "web/lib-" + i + ".js",
+                    "other/ignored.js"));
+        }
+        final Path projectDir = tempDir.resolve("project");
+        final List<ProjectScanner.LocalDirEntry> localDirs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            final Path localDir = projectDir.resolve("local-" + i + "/web");
+            write(localDir.resolve("app.js"));
+            write(localDir.resolve("local-" + i + ".js"));
+            localDirs.add(new ProjectScanner.LocalDirEntry(localDir, localDir.getParent()));
+        }
+
+        final ProjectScanner sequential = ProjectScanner.forPaths(paths, projectDir, localDirs, WEB, List.of(),
+                StandardCharsets.UTF_8, null, 1);
+        for (int run = 0; run < 5; run++) {
+            final ProjectScanner parallel = ProjectScanner.forPaths(paths, projectDir, localDirs, WEB, List.of(),
+                    StandardCharsets.UTF_8, null, 4);
+            for (DuplicateStrategy strategy : List.of(DuplicateStrategy.PREFER_APP,
+                    DuplicateStrategy.PREFER_DEPENDENCY)) {
+                assertThat(describe(parallel, strategy)).isEqualTo(describe(sequential, strategy));
+            }
+            assertThat(parallel.indexedDirs()).isEqualTo(sequential.indexedDirs());
+        }
+        assertThat(sequential.indexedDirs()).hasSize(9);
+    }
+
+    private static List<String> describe(ProjectScanner scanner, DuplicateStrategy strategy) throws IOException {
+        return scanner.query().duplicateStrategy(strategy).list().stream()
+                .map(f -> f.indexPath() + " " + f.origin() + " " + f.file() + " " + f.source())
+                .toList();
+    }
+
+    private static void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, file.getFileName().toString());
+    }
+}
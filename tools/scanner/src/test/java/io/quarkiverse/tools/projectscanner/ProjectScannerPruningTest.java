@@ -0,0 +1,82 @@
+package io.quarkiverse.tools.projectscanner;
+
+import static io.quarkiverse.tools.projectscanner.ProjectScannerIndexCacheTest.createJar;
+import static io.quarkiverse.tools.projectscanner.ProjectScannerIndexCacheTest.indexPaths;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProjectScannerPruningTest {
+
+    static final List<ScanDeclarationBuildItem> WEB = List.of(ScanDeclarationBuildItem.of("web"));
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void skipsUndeclaredSubtrees() throws IOException {
+        Path root = createClassesDir(tempDir.resolve("classes"), 500);
+
+        List<String> visited = new ArrayList<>();
+        var pruned = ProjectScanner.walkDeclaredFiles(root, root, WEB, (file, indexPath) -> visited.add(indexPath));
+        assertThat(visited).containsExactlyInAnyOrder("application.properties", "web/app.js",
+                "web/components/button.js");
+        assertThat(pruned.visitedFiles()).isEqualTo(3);
+        assertThat(pruned.skippedDirs()).isEqualTo(1);
+
+        var full = ProjectScanner.walkDeclaredFiles(root, root, List.of(ScanDeclarationBuildItem.of("")),
+                (file, indexPath) -> {
+                });
+        assertThat(full.visitedFiles()).isEqualTo(503);
+        assertThat(full.skippedDirs()).isZero();
+    }
+
+    @Test
+    void walksToNestedScopeDir() throws IOException {
+        Path root = tempDir.resolve("classes");
+        write(root.resolve("META-INF/services/org.acme.Service"));
+        write(root.resolve("META-INF/resources/web/app.js"));
+        write(root.resolve("META-INF/resources/other/lib.js"));
+        write(root.resolve("org/acme/Service.class"));
+
+        List<String> visited = new ArrayList<>();
+        var stats = ProjectScanner.walkDeclaredFiles(root, root,
+                List.of(ScanDeclarationBuildItem.of("META-INF/resources/web")),
+                (file, indexPath) -> visited.add(indexPath));
+        assertThat(visited).containsExactly("META-INF/resources/web/app.js");
+        assertThat(stats.skippedDirs()).isEqualTo(3);
+    }
+
+    @Test
+    void sameIndexAsFullWalk() throws IOException {
+        Path root = createClassesDir(tempDir.resolve("classes"), 50);
+        Path jar = createJar(tempDir.resolve("lib.jar"), "org/acme/Lib.class", "web/lib.js", "web/nested/lib.css");
+
+        assertThat(indexPaths(ProjectScanner.forPaths(List.of(root, jar), WEB, List.of())))
+                .containsExactly("web/app.js", "web/components/button.js", "web/lib.js", "web/nested/lib.css");
+        assertThat(indexPaths(ProjectScanner.forPaths(List.of(jar), List.of(ScanDeclarationBuildItem.of("META-INF")),
+                List.of()))).isEmpty();
+    }
+
+    private static Path createClassesDir(Path root, int classes) throws IOException {
+        for (int i = 0; i < classes; i++) {
+            write(root.resolve("com/acme/pkg" + (i % 10) + "/Class" + i + ".class"));
+        }
+        write(root.resolve("application.properties"));
+        write(root.resolve("web/app.js"));
+        write(root.resolve("web/components/button.js"));
+        return root;
+    }
+
+    private static void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, file.getFileName().toString());
+    }
+}
@@ -0,0 +1,121 @@
+package io.quarkiverse.tools.projectscanner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProjectScannerSourceTest {
+
+    static final List<ScanDeclarationBuildItem> WEB = List.of(ScanDeclarationBuildItem.of("web"));
+
+    @TempDir
+    Path tempDir;
+
+    Path classes;
+    Path jar;
+    Path projectDir;
+    Path localWebDir;
+    Path srcResources;
+    Path otherSrcResources;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        classes = tempDir.resolve("classes");
+        jar = ProjectScannerIndexCacheTest.createJar(tempDir.resolve("lib.jar"), "web/lib.js");
+        projectDir = tempDir.resolve("project");
+        localWebDir = projectDir.resolve("web");
+        srcResources = projectDir.resolve("src/main/resources");
+        otherSrcResources = projectDir.resolve("src/other/resources");
+        write(classes.resolve("web/app.js"));
+        write(classes.resolve("web/other.js"));
+        write(classes.resolve("web/generated.js"));
+        write(localWebDir.resolve("local.js"));
+        write(srcResources.resolve("web/app.js"));
+        write(otherSrcResources.resolve("web/app.js"));
+        write(otherSrcResources.resolve("web/other.js"));
+    }
+
+    @Test
+    void classesDirFiles() throws IOException {
+        final ProjectScanner scanner = scan();
+
+        final ProjectFile app = file(scanner, "web/app.js");
+        assertThat(app.origin()).isEqualTo(ProjectFile.Origin.ROOT_APPLICATION_RESOURCE);
+        assertThat(app.isLocalFile()).isTrue();
+        assertThat(app.file()).isEqualTo(classes.resolve("web/app.js"));
+        // Found in both src resources dirs, the first one wins
+        assertThat(app.source()).isEqualTo(srcResources.resolve("web/app.js"));
+
+        assertThat(file(scanner, "web/other.js").source()).isEqualTo(otherSrcResources.resolve("web/other.js"));
+
+        final ProjectFile generated = file(scanner, "web/generated.js");
+        assertThat(generated.file()).isEqualTo(classes.resolve("web/generated.js"));
+        assertThat(generated.hasSource()).isFalse();
+        assertThat(generated.source()).isNull();
+    }
+
+    @Test
+    void jarEntries() throws IOException {
+        final ProjectFile lib = file(scan(), "web/lib.js");
+
+        assertThat(lib.origin()).isEqualTo(ProjectFile.Origin.ROOT_APPLICATION_RESOURCE);
+        assertThat(lib.isLocalFile()).isFalse();
+        assertThat(lib.file().getFileSystem()).isNotEqualTo(FileSystems.getDefault());
+        assertThat(lib.file().toString()).isEqualTo("/web/lib.js");
+        assertThat(lib.source()).isNull();
+    }
+
+    @Test
+    void localDirFiles() throws IOException {
+        final ProjectFile local = file(scan(), "web/local.js");
+
+        assertThat(local.origin()).isEqualTo(ProjectFile.Origin.LOCAL_PROJECT_FILE);
+        assertThat(local.file()).isEqualTo(localWebDir.resolve("local.js"));
+        // Local project files are their own source
+        assertThat(local.source()).isEqualTo(local.file());
+    }
+
+    @Test
+    void updatesSources() throws IOException {
+        final ProjectScanner scanner = scan();
+
+        write(srcResources.resolve("web/other.js"));
+        write(srcResources.resolve("web/generated.js"));
+        final ProjectScanner updated = scanner.update(
+                List.of(srcResources.resolve("web/other.js"), srcResources.resolve("web/generated.js")), Set.of());
+
+        assertThat(updated).isNotNull();
+        assertThat(file(updated, "web/other.js").source()).isEqualTo(srcResources.resolve("web/other.js"));
+        assertThat(file(updated, "web/generated.js").source()).isEqualTo(srcResources.resolve("web/generated.js"));
+        assertThat(file(updated, "web/app.js").source()).isEqualTo(srcResources.resolve("web/app.js"));
+        // Same as a full scan
+        assertThat(file(scan(), "web/other.js").source()).isEqualTo(srcResources.resolve("web/other.js"));
+    }
+
+    private static ProjectFile file(ProjectScanner scanner, String indexPath) throws IOException {
+        return scanner.query().list().stream()
+                .filter(f -> f.indexPath().equals(indexPath))
+                .findFirst().orElseThrow();
+    }
+
+    private ProjectScanner scan() throws IOException {
+        return ProjectScanner.forPaths(List.of(classes, jar), projectDir,
+                List.of(new ProjectScanner.LocalDirEntry(localWebDir, projectDir)), WEB, List.of(),
+                StandardCharsets.UTF_8, null, 1, List.of(srcResources, otherSrcResources));
+    }
+
+    private static void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, file.getFileName().toString());
+    }
+}
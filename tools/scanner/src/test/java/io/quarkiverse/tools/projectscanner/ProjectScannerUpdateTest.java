@@ -0,0 +1,131 @@
+package io.quarkiverse.tools.projectscanner;
+
+import static io.quarkiverse.tools.projectscanner.ProjectScannerIndexCacheTest.indexPaths;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ProjectScannerUpdateTest {
+
+    static final List<ScanDeclarationBuildItem> WEB = List.of(ScanDeclarationBuildItem.of("web"));
+
+    @TempDir
+    Path tempDir;
+
+    Path classes;
+    Path projectDir;
+    Path localWebDir;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        classes = tempDir.resolve("classes");
+        projectDir = tempDir.resolve("project");
+        localWebDir = projectDir.resolve("web");
+        write(classes.resolve("web/app.js"));
+        write(classes.resolve("web/components/button.js"));
+        write(classes.resolve("web/components/card.js"));
+        write(classes.resolve("other/ignored.js"));
+        write(localWebDir.resolve("local.js"));
+    }
+
+    @Test
+    void appliesChangedResources() throws IOException {
+        final ProjectScanner scanner = scan();
+
+        write(classes.resolve("web/new.js"));
+        write(classes.resolve("other/new.js"));
+        Files.delete(classes.resolve("web/app.js"));
+        final ProjectScanner updated = scanner.update(List.of(),
+                Set.of("web/new.js", "/web/app.js", "other/new.js", "web/unknown.js"));
+
+        assertThat(updated).isNotNull();
+        assertThat(indexPaths(updated)).containsExactly("web/components/button.js", "web/components/card.js",
+                "web/local.js", "web/new.js");
+        assertThat(indexPaths(updated)).isEqualTo(indexPaths(scan()));
+        // The previous scanner is unchanged
+        assertThat(indexPaths(scanner)).containsExactly("web/app.js", "web/components/button.js",
+                "web/components/card.js", "web/local.js");
+    }
+
+    @Test
+    void appliesChangedDirectories() throws IOException {
+        final ProjectScanner scanner = scan();
+
+        deleteRecursively(classes.resolve("web/components"));
+        write(classes.resolve("web/pages/home.js"));
+        write(classes.resolve("web/pages/about.js"));
+        final ProjectScanner updated = scanner.update(List.of(), Set.of("web/components", "web/pages"));
+
+        assertThat(indexPaths(updated)).containsExactly("web/app.js", "web/local.js", "web/pages/about.js",
+                "web/pages/home.js");
+        assertThat(indexPaths(updated)).isEqualTo(indexPaths(scan()));
+    }
+
+    @Test
+    void appliesChangedLocalFiles() throws IOException {
+        final ProjectScanner scanner = scan();
+
+        // Same index path as a classpath resource, the local project file comes first
+        write(localWebDir.resolve("app.js"));
+        Files.delete(localWebDir.resolve("local.js"));
+        final ProjectScanner updated = scanner.update(List.of(localWebDir.resolve("app.js"),
+                localWebDir.resolve("local.js"), tempDir.resolve("unrelated.js")), Set.of());
+
+        assertThat(indexPaths(updated)).isEqualTo(indexPaths(scan()));
+        assertThat(origin(updated, "web/app.js", DuplicateStrategy.PREFER_APP))
+                .isEqualTo(ProjectFile.Origin.LOCAL_PROJECT_FILE);
+        assertThat(origin(updated, "web/app.js", DuplicateStrategy.PREFER_DEPENDENCY))
+                .isEqualTo(ProjectFile.Origin.ROOT_APPLICATION_RESOURCE);
+    }
+
+    @Test
+    void requiresFullBuild() throws IOException {
+        // Local project files changes are unknown
+        assertThat(scan().update(null, Set.of("web/app.js"))).isNull();
+        // A whole indexed dir changed
+        assertThat(scan().update(List.of(classes), Set.of())).isNull();
+        // Any file may be indexed
+        assertThat(ProjectScanner.forPaths(List.of(classes), List.of(ScanDeclarationBuildItem.of("")), List.of())
+                .update(List.of(), Set.of())).isNull();
+
+        assertThat(ProjectScanner.forPaths(List.of(classes), WEB, List.of()).update(null, Set.of("web/app.js")))
+                .isNotNull();
+    }
+
+    private static ProjectFile.Origin origin(ProjectScanner scanner, String indexPath, DuplicateStrategy strategy)
+            throws IOException {
+        return scanner.query().duplicateStrategy(strategy).list().stream()
+                .filter(f -> f.indexPath().equals(indexPath))
+                .findFirst().orElseThrow().origin();
+    }
+
+    private ProjectScanner scan() throws IOException {
+        return ProjectScanner.forPaths(List.of(classes), projectDir,
+                List.of(new ProjectScanner.LocalDirEntry(localWebDir, projectDir)), WEB, List.of(),
+                StandardCharsets.UTF_8);
+    }
+
+    private static void write(Path file) throws IOException {
+        Files.createDirectories(file.getParent());
+        Files.writeString(file, file.getFileName().toString());
+    }
+
+    private static void deleteRecursively(Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
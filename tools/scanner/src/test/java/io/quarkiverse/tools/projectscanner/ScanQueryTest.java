@@ -4,12 +4,14 @@ import static org.assertj.core.api.Assertions.assertThat;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class ScanQueryTest {
 
@@ -255,6 +257,78 @@ class ScanQueryTest {
         assertThat(results).doesNotContain("app/style.css");
     }
 
+    @Test
+    void memoizedQueryReturnsSameResults() throws IOException {
+        var first = scanner.query().scopeDirs("public").list();
+        var second = scanner.query().scopeDirs("public").list();
+        assertThat(second).isEqualTo(first).isNotSameAs(first);
+        // Only the index entries are memoized, the files (and their loaded content) are not shared between queries
+        assertThat(second.get(0)).isEqualTo(first.get(0)).isNotSameAs(first.get(0));
+        assertThat(scanner.queryCacheHits()).isPositive();
+        // Returned lists are copies
+        second.clear();
+        assertThat(scanner.query().scopeDirs("public").list()).isEqualTo(first);
+    }
+
+    @Test
+    void subsumedQueryIsFilteredFromPreviousResults() throws IOException {
+        var freshScanner = ProjectScanner.forPaths(
+                List.of(Path.of("src/test/resources/web")),
+                ALL_FILES,
+                List.of());
+        var all = scopedPaths(freshScanner.query().scopeDirs("app").list());
+        var html = scopedPaths(freshScanner.query().scopeDirs("app").matchingGlob("**.html").list());
+        assertThat(all).contains("page.html", "index.js");
+        assertThat(html).containsExactly("page.html");
+        var notHtml = scopedPaths(freshScanner.query().scopeDirs("app").exclude("glob:**.html").list());
+        assertThat(notHtml).contains("index.js").doesNotContain("page.html");
+    }
+
+    @Test
+    void transferToCopiesContent(@TempDir Path tempDir) throws IOException {
+        var file = scanner.query().scopeDirs("static").matchingGlob("hello.txt").list().get(0);
+        Path target = tempDir.resolve("hello.txt");
+        file.transferTo(target);
+        assertThat(target).hasBinaryContent(file.content());
+        try (var in = file.openStream()) {
+            assertThat(in.readAllBytes()).isEqualTo(file.content());
+        }
+    }
+
+    @Test
+    void scopeDirRangeBoundaries(@TempDir Path tempDir) throws IOException {
+        // Sibling paths sorting right before ('-', '.') and right after ('0') the scope dir separator
+        for (String path : List.of("web-foo/x.js", "web.js", "web/a-x.js", "web/a.b", "web/a.b/c.js", "web/a/b.js",
+                "web/a/sub/d.js", "web/a0.js", "web0/z.js")) {
+            Path file = tempDir.resolve(path);
+            Files.createDirectories(file.getParent());
+            Files.writeString(file, path);
+        }
+        var boundaries = ProjectScanner.forPaths(List.of(tempDir), ALL_FILES, List.of());
+
+        assertThat(scopedPaths(boundaries.query().scopeDirs("web").list())).containsExactly("a-x.js", "a.b",
+                "a.b/c.js", "a/b.js", "a/sub/d.js", "a0.js");
+        assertThat(scopedPaths(boundaries.query().scopeDirs("web-foo").list())).containsExactly("x.js");
+        assertThat(scopedPaths(boundaries.query().scopeDirs("web/a").list())).containsExactly("b.js", "sub/d.js");
+        assertThat(scopedPaths(boundaries.query().scopeDirs("web/a.b").list())).containsExactly("c.js");
+        assertThat(scopedPaths(boundaries.query().scopeDirs("web/a", "web/a.b").matchingGlob("*.js").list()))
+                .containsExactly("b.js", "c.js");
+    }
+
+    @Test
+    void archiveEntryIsStreamedFromArchive(@TempDir Path tempDir) throws IOException {
+        Path jar = ProjectScannerIndexCacheTest.createJar(tempDir.resolve("lib.jar"), "web/app.js");
+        var jarScanner = ProjectScanner.forPaths(List.of(jar), ALL_FILES, List.of());
+        var file = (ClasspathProjectFile) jarScanner.query().list().get(0);
+        Path target = tempDir.resolve("app.js");
+        file.transferTo(target);
+        assertThat(target).hasContent("web/app.js");
+        try (var in = file.openStream()) {
+            assertThat(in.readAllBytes()).isEqualTo("web/app.js".getBytes(StandardCharsets.UTF_8));
+        }
+        assertThat(file.isContentLoaded()).isFalse();
+    }
+
     @Test
     void indexBaseFromDir() throws IOException {
         Path projectDir = Path.of("src/test/resources");
@@ -0,0 +1,61 @@
+package io.quarkiverse.tools.projectscanner;
+
+import static io.quarkiverse.tools.projectscanner.ProjectScannerIndexCacheTest.createJar;
+import static io.quarkiverse.tools.projectscanner.ProjectScannerIndexCacheTest.indexPaths;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class ZipScopePrefilterTest {
+
+    @TempDir
+    Path tempDir;
+
+    @Test
+    void readsEntryNamesFromCentralDirectory() throws IOException {
+        Path withWeb = createJar(tempDir.resolve("with-web.jar"), "META-INF/MANIFEST.MF", "web/app.js");
+        Path withoutWeb = createJar(tempDir.resolve("without-web.jar"), "META-INF/MANIFEST.MF", "org/acme/A.class");
+
+        assertThat(ZipScopePrefilter.mayContain(withWeb, List.of("web/"))).isTrue();
+        assertThat(ZipScopePrefilter.mayContain(withoutWeb, List.of("web/"))).isFalse();
+        assertThat(ZipScopePrefilter.mayContain(withoutWeb, List.of("web/", "org/"))).isTrue();
+        assertThat(ZipScopePrefilter.mayContain(withoutWeb, List.of(""))).isTrue();
+    }
+
+    @Test
+    void mayContainWhenNotAZip() throws IOException {
+        Path notAZip = Files.writeString(tempDir.resolve("not-a-zip.jar"), "not a zip");
+        assertThat(ZipScopePrefilter.mayContain(notAZip, List.of("web/"))).isTrue();
+        assertThat(ZipScopePrefilter.mayContain(tempDir, List.of("web/"))).isTrue();
+    }
+
+    @Test
+    void prependedData() throws IOException {
+        Path jar = createJar(tempDir.resolve("lib.jar"), "web/app.js");
+        Path prepended = tempDir.resolve("prepended.jar");
+        Files.write(prepended, "#!/bin/sh\n".getBytes(StandardCharsets.UTF_8));
+        Files.write(prepended, Files.readAllBytes(jar), StandardOpenOption.APPEND);
+        assertThat(ZipScopePrefilter.mayContain(prepended, List.of("web/"))).isTrue();
+        assertThat(ZipScopePrefilter.mayContain(prepended, List.of("static/"))).isFalse();
+    }
+
+    @Test
+    void skippedArchiveIsCachedAsEmpty() throws IOException {
+        Path jar = createJar(tempDir.resolve("lib.jar"), "org/acme/A.class");
+        Path cacheFile = tempDir.resolve("index.bin");
+        List<ScanDeclarationBuildItem> web = List.of(ScanDeclarationBuildItem.of("web"));
+
+        assertThat(indexPaths(ProjectScanner.forPaths(List.of(jar), null, List.of(), web, List.of(),
+                StandardCharsets.UTF_8, cacheFile))).isEmpty();
+        var cache = ProjectScannerIndexCache.load(cacheFile, ProjectScannerIndexCache.fingerprint(web, List.of()));
+        assertThat(cache.get(cache.key(jar))).isEmpty();
+    }
+}
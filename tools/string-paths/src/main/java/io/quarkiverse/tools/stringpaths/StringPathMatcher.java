@@ -0,0 +1,267 @@
+package io.quarkiverse.tools.stringpaths;
+
+import java.util.Objects;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+/**
+ * Matches forward-slash ({@code /}) string paths against a {@code glob:} or {@code regex:} pattern,
+ * with the same semantics as {@link java.nio.file.FileSystem#getPathMatcher(String)} on Unix,
+ * but without creating a {@link java.nio.file.Path} for each test.
+ * <p>
+ * Common glob shapes ({@code **.html}, {@code *.js}, {@code dir/**}, {@code **}/{@code *.css}, literals)
+ * are matched with plain string operations, others use a precompiled regular expression.
+ */
+public final class StringPathMatcher {
+
+    private static final String REGEX_META_CHARS = ".^$+{[]|()";
+    private static final String GLOB_META_CHARS = "\\*?[{";
+    private static final char EOL = 0;
+
+    private enum Kind {
+        ANY,
+        SINGLE_SEGMENT,
+        EQUALS,
+        STARTS_WITH,
+        ENDS_WITH,
+        SINGLE_SEGMENT_ENDS_WITH,
+        NESTED_ENDS_WITH,
+        REGEX
+    }
+
+    private final String pattern;
+    private final Kind kind;
+    private final String literal;
+    private final Pattern regex;
+
+    private StringPathMatcher(String pattern, Kind kind, String literal, Pattern regex) {
+        this.pattern = pattern;
+        this.kind = kind;
+        this.literal = literal;
+        this.regex = regex;
+    }
+
+    /**
+     * Compiles a prefixed pattern (e.g. {@code "glob:**.html"} or {@code "regex:.*\\.js"}).
+     *
+     * @throws IllegalArgumentException if the pattern is not prefixed or is invalid
+     * @throws UnsupportedOperationException if the prefix is neither {@code glob} nor {@code regex}
+     */
+    public static StringPathMatcher compile(String syntaxAndPattern) {
+        Objects.requireNonNull(syntaxAndPattern, "syntaxAndPattern is required");
+        int pos = syntaxAndPattern.indexOf(':');
+        if (pos <= 0) {
+            throw new IllegalArgumentException("Invalid pattern, expected <syntax>:<pattern>: " + syntaxAndPattern);
+        }
+        String syntax = syntaxAndPattern.substring(0, pos);
+        String expr = syntaxAndPattern.substring(pos + 1);
+        if (syntax.equalsIgnoreCase("glob")) {
+            return compileGlob(syntaxAndPattern, expr);
+        }
+        if (syntax.equalsIgnoreCase("regex")) {
+            return new StringPathMatcher(syntaxAndPattern, Kind.REGEX, null, Pattern.compile(expr));
+        }
+        throw new UnsupportedOperationException("Syntax '" + syntax + "' not recognized");
+    }
+
+    /**
+     * Returns {@code true} if the whole path matches the pattern.
+     */
+    public boolean matches(String path) {
+        return switch (kind) {
+            case ANY -> true;
+            case SINGLE_SEGMENT -> path.indexOf('/') < 0;
+            case EQUALS -> path.equals(literal);
+            case STARTS_WITH -> path.startsWith(literal);
+            case ENDS_WITH -> path.endsWith(literal);
+            case SINGLE_SEGMENT_ENDS_WITH -> path.endsWith(literal) && path.indexOf('/') < 0;
+            case NESTED_ENDS_WITH -> path.endsWith(literal) && path.indexOf('/') >= 0;
+            case REGEX -> regex.matcher(path).matches();
+        };
+    }
+
+    /**
+     * Returns the prefixed pattern this matcher was compiled from.
+     */
+    public String pattern() {
+        return pattern;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == null || getClass() != o.getClass())
+            return false;
+        return pattern.equals(((StringPathMatcher) o).pattern);
+    }
+
+    @Override
+    public int hashCode() {
+        return pattern.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+
+    private static StringPathMatcher compileGlob(String pattern, String glob) {
+        // A newline is never matched by '.' in the regex, keep the regex for those (unlikely) globs
+        if (glob.indexOf('\n') < 0 && glob.indexOf('\r') < 0) {
+            if (glob.equals("**")) {
+                return new StringPathMatcher(pattern, Kind.ANY, null, null);
+            }
+            if (glob.equals("*")) {
+                return new StringPathMatcher(pattern, Kind.SINGLE_SEGMENT, null, null);
+            }
+            if (isLiteral(glob)) {
+                return new StringPathMatcher(pattern, Kind.EQUALS, glob, null);
+            }
+            if (glob.startsWith("**/*") && isLiteralSegment(glob.substring(4))) {
+                return new StringPathMatcher(pattern, Kind.NESTED_ENDS_WITH, glob.substring(4), null);
+            }
+            if (glob.startsWith("**") && isLiteral(glob.substring(2))) {
+                return new StringPathMatcher(pattern, Kind.ENDS_WITH, glob.substring(2), null);
+            }
+            if (glob.startsWith("*") && isLiteralSegment(glob.substring(1))) {
+                return new StringPathMatcher(pattern, Kind.SINGLE_SEGMENT_ENDS_WITH, glob.substring(1), null);
+            }
+            if (glob.endsWith("**") && isLiteral(glob.substring(0, glob.length() - 2))) {
+                return new StringPathMatcher(pattern, Kind.STARTS_WITH, glob.substring(0, glob.length() - 2), null);
+            }
+        }
+        return new StringPathMatcher(pattern, Kind.REGEX, null, Pattern.compile(globToRegex(glob)));
+    }
+
+    private static boolean isLiteral(String glob) {
+        for (int i = 0; i < glob.length(); i++) {
+            if (GLOB_META_CHARS.indexOf(glob.charAt(i)) >= 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isLiteralSegment(String glob) {
+        return isLiteral(glob) && glob.indexOf('/') < 0;
+    }
+
+    private static char next(String glob, int i) {
+        return i < glob.length() ? glob.charAt(i) : EOL;
+    }
+
+    /**
+     * Translates a glob to a regular expression, following the JDK Unix glob rules.
+     */
+    static String globToRegex(String glob) {
+        boolean inGroup = false;
+        StringBuilder regex = new StringBuilder("^");
+        int i = 0;
+        while (i < glob.length()) {
+            char c = glob.charAt(i++);
+            switch (c) {
+                case '\\' -> {
+                    if (i == glob.length()) {
+                        throw new PatternSyntaxException("No character to escape", glob, i - 1);
+                    }
+                    char next = glob.charAt(i);
+                    if (GLOB_META_CHARS.indexOf(next) >= 0 || REGEX_META_CHARS.indexOf(next) >= 0) {
+                        regex.append('\\');
+                    }
+                    regex.append(next);
+                    i++;
+                }
+                case '[' -> {
+                    regex.append("[[^/]&&[");
+                    if (next(glob, i) == '^') {
+                        // escape the regex negation char if it appears
+                        regex.append("\\^");
+                        i++;
+                    } else {
+                        // negation
+                        if (next(glob, i) == '!') {
+                            regex.append('^');
+                            i++;
+                        }
+                        // hyphen allowed at start
+                        if (next(glob, i) == '-') {
+                            regex.append('-');
+                            i++;
+                        }
+                    }
+                    boolean hasRangeStart = false;
+                    char last = 0;
+                    while (i < glob.length()) {
+                        c = glob.charAt(i++);
+                        if (c == ']') {
+                            break;
+                        }
+                        if (c == '/') {
+                            throw new PatternSyntaxException("Explicit 'name separator' in class", glob, i - 1);
+                        }
+                        if (c == '\\' || c == '[' || c == '&' && next(glob, i) == '&') {
+                            regex.append('\\');
+                        }
+                        regex.append(c);
+                        if (c == '-') {
+                            if (!hasRangeStart) {
+                                throw new PatternSyntaxException("Invalid range", glob, i - 1);
+                            }
+                            if ((c = next(glob, i++)) == EOL || c == ']') {
+                                break;
+                            }
+                            if (c < last) {
+                                throw new PatternSyntaxException("Invalid range", glob, i - 3);
+                            }
+                            regex.append(c);
+                            hasRangeStart = false;
+                        } else {
+                            hasRangeStart = true;
+                            last = c;
+                        }
+                    }
+                    if (c != ']') {
+                        throw new PatternSyntaxException("Missing ']", glob, i - 1);
+                    }
+                    regex.append("]]");
+                }
+                case '{' -> {
+                    if (inGroup) {
+                        throw new PatternSyntaxException("Cannot nest groups", glob, i - 1);
+                    }
+                    regex.append("(?:(?:");
+                    inGroup = true;
+                }
+                case '}' -> {
+                    if (inGroup) {
+                        regex.append("))");
+                        inGroup = false;
+                    } else {
+                        regex.append('}');
+                    }
+                }
+                case ',' -> regex.append(inGroup ? ")|(?:" : ",");
+                case '*' -> {
+                    if (next(glob, i) == '*') {
+                        // crosses directory boundaries
+                        regex.append(".*");
+                        i++;
+                    } else {
+                        // within directory boundary
+                        regex.append("[^/]*");
+                    }
+                }
+                case '?' -> regex.append("[^/]");
+                default -> {
+                    if (REGEX_META_CHARS.indexOf(c) >= 0) {
+                        regex.append('\\');
+                    }
+                    regex.append(c);
+                }
+            }
+        }
+        if (inGroup) {
+            throw new PatternSyntaxException("Missing '}", glob, i - 1);
+        }
+        return regex.append('$').toString();
+    }
+}
@@ -0,0 +1,72 @@
+package io.quarkiverse.tools.stringpaths;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+
+import org.junit.jupiter.api.Test;
+
+class StringPathMatcherTest {
+
+    static final List<String> GLOBS = List.of("**", "*", "**.html", "*.js", "app/**", "**/*.css", "index.html",
+            "**/*", "web/*.js", "**/{a,b}.js", "[!a]*.txt", "?.js", "*.{js,ts}", "**.*~", "**Thumbs.db",
+            "a\\*b", "web/**/x.js", "{x,y}/**", ".*", "*/foo.js", "");
+
+    static final List<String> PATHS = List.of("a.js", "b.js", "x.html", "app/x.html", "app/b/c.css", "index.html",
+            "web/a.js", "web/b/a.js", "c.txt", "a.txt", "foo~", "dir/.bak~", "Thumbs.db", "d/Thumbs.db", "a*b",
+            "web/q/x.js", "x/foo.js", "y", "y/z", "abc.ts", ".hidden");
+
+    @Test
+    void sameAsJdkGlob() {
+        for (String glob : GLOBS) {
+            PathMatcher jdk = FileSystems.getDefault().getPathMatcher("glob:" + glob);
+            StringPathMatcher matcher = StringPathMatcher.compile("glob:" + glob);
+            for (String path : PATHS) {
+                assertThat(matcher.matches(path))
+                        .as("glob '%s' on '%s'", glob, path)
+                        .isEqualTo(jdk.matches(Path.of(path)));
+            }
+        }
+    }
+
+    @Test
+    void fastPaths() {
+        assertThat(StringPathMatcher.compile("glob:**.html").matches("a/b/index.html")).isTrue();
+        assertThat(StringPathMatcher.compile("glob:*.js").matches("a/index.js")).isFalse();
+        assertThat(StringPathMatcher.compile("glob:*.js").matches("index.js")).isTrue();
+        assertThat(StringPathMatcher.compile("glob:app/**").matches("app/a/b.js")).isTrue();
+        assertThat(StringPathMatcher.compile("glob:**/*.css").matches("style.css")).isFalse();
+        assertThat(StringPathMatcher.compile("glob:**/*.css").matches("a/style.css")).isTrue();
+    }
+
+    @Test
+    void regex() {
+        StringPathMatcher matcher = StringPathMatcher.compile("regex:.*\\.js");
+        assertThat(matcher.matches("a/b.js")).isTrue();
+        assertThat(matcher.matches("a/b.ts")).isFalse();
+        assertThat(matcher.pattern()).isEqualTo("regex:.*\\.js");
+    }
+
+    @Test
+    void invalidPatterns() {
+        assertThatThrownBy(() -> StringPathMatcher.compile("**.js"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> StringPathMatcher.compile("foo:**.js"))
+                .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> StringPathMatcher.compile("glob:[a"))
+                .isInstanceOf(PatternSyntaxException.class);
+        assertThatThrownBy(() -> StringPathMatcher.compile("glob:{a,{b}}"))
+                .isInstanceOf(PatternSyntaxException.class);
+    }
+
+    @Test
+    void equality() {
+        assertThat(StringPathMatcher.compile("glob:*.js")).isEqualTo(StringPathMatcher.compile("glob:*.js"));
+        assertThat(StringPathMatcher.compile("glob:*.js")).isNotEqualTo(StringPathMatcher.compile("glob:*.ts"));
+    }
+}